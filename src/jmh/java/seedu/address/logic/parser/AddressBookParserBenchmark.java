@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks {@link AddressBookParser#parseCommand(String)} on typical commands.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    @Param({
+        "add n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 t/friends t/owesMoney",
+        "edit 1 p/91234567 e/johndoe@example.com",
+        "find alex david roy",
+        "delete 3",
+        "list"
+    })
+    public String userInput;
+
+    private final AddressBookParser parser = new AddressBookParser(filePath -> List.of());
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
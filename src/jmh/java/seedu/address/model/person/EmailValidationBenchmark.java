@@ -0,0 +1,56 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link Email#isValidEmail(String)} against matching {@link Email#VALIDATION_REGEX} on emails with long
+ * domain names, including the malformed domain names that make the regex backtrack the most.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailValidationBenchmark {
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(Email.VALIDATION_REGEX);
+
+    @Param({"25", "100", "400"})
+    public int domainLength;
+
+    /** Whether the domain name ends with an invalid character, which makes the regex try many ways to split it. */
+    @Param({"true", "false"})
+    public boolean isMalformed;
+
+    private String email;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        email = "peterjack@" + "a".repeat(domainLength) + (isMalformed ? "!" : "");
+    }
+
+    @Benchmark
+    public boolean isValidEmail() {
+        return Email.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean isValidEmail_regex() {
+        return VALIDATION_PATTERN.matcher(email).matches();
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Benchmarks a scan of the whole address book with {@link NameContainsKeywordsPredicate#test(Person)}, as done when
+ * deleting persons by name, against the same scan with the predicate backed by the name index of the address book,
+ * as done by the find command.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameContainsKeywordsPredicateBenchmark {
+
+    private static final List<String> KEYWORDS = Arrays.asList("alex", "Balakrishnan", "nobody");
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int bookSize;
+
+    private List<Person> persons;
+    private Predicate<Person> indexedPredicate;
+
+    /**
+     * Generates an address book of {@code bookSize} persons.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        new SampleDataGenerator().addPersonsTo(addressBook, bookSize);
+        persons = addressBook.getPersonList();
+        indexedPredicate = addressBook.getNameKeywordsPredicate(KEYWORDS);
+    }
+
+    @Benchmark
+    public int scan() {
+        return countMatches(new NameContainsKeywordsPredicate(KEYWORDS));
+    }
+
+    @Benchmark
+    public int scan_nameIndex() {
+        return countMatches(indexedPredicate);
+    }
+
+    private int countMatches(Predicate<Person> predicate) {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
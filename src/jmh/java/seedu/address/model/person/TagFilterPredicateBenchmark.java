@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Benchmarks a scan of the whole address book with {@link TagFilterPredicate}, against testing the same tags with
+ * {@code Set#contains}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagFilterPredicateBenchmark {
+
+    private static final List<Tag> TAGS = Arrays.asList(new Tag("friends"), new Tag("colleagues"));
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int bookSize;
+
+    private List<Person> persons;
+
+    /**
+     * Generates an address book of {@code bookSize} persons.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        new SampleDataGenerator().addPersonsTo(addressBook, bookSize);
+        persons = addressBook.getPersonList();
+    }
+
+    @Benchmark
+    public int scan_hasAllTags() {
+        return countMatches(TagFilterPredicate.hasAllTags(TAGS));
+    }
+
+    @Benchmark
+    public int scan_hasAllTags_setContains() {
+        return countMatches(person -> person.getTags().containsAll(TAGS));
+    }
+
+    @Benchmark
+    public int scan_hasAnyTag() {
+        return countMatches(TagFilterPredicate.hasAnyTag(TAGS));
+    }
+
+    private int countMatches(Predicate<Person> predicate) {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,199 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Benchmarks {@link UniquePersonList#add(Person)}, {@link UniquePersonList#contains(Person)}, and the edit and
+ * delete workloads of {@link UniquePersonList#setPerson(Person, Person)} and {@link UniquePersonList#remove(Person)},
+ * and of their index-based counterparts and {@link UniquePersonList#removeAll(java.util.function.Predicate)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    private static final int ADDED_PERSONS = 1000;
+    private static final int CHANGED_PERSONS = 100;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int bookSize;
+
+    private List<Person> persons;
+    private List<Person> addedPersons;
+    private UniquePersonList personList;
+    private Person presentPerson;
+    private Person absentPerson;
+    private List<Person> changedPersons;
+    private Set<Person> purgedPersons;
+    private int[] changedIndexes;
+    private List<Person> editedPersons;
+
+    /**
+     * Generates {@code bookSize} persons, plus further persons that are not in the list.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        List<Person> generated = new SampleDataGenerator().generatePersons(bookSize + ADDED_PERSONS)
+                .collect(Collectors.toList());
+        persons = generated.subList(0, bookSize);
+        addedPersons = generated.subList(bookSize, generated.size());
+        presentPerson = persons.get(bookSize / 2);
+        absentPerson = addedPersons.get(0);
+
+        changedPersons = new ArrayList<>();
+        editedPersons = new ArrayList<>();
+        changedIndexes = new int[CHANGED_PERSONS];
+        for (int i = 0; i < CHANGED_PERSONS; i++) {
+            changedIndexes[i] = (int) ((long) i * bookSize / CHANGED_PERSONS);
+            Person person = persons.get(changedIndexes[i]);
+            changedPersons.add(person);
+            editedPersons.add(new Person(person.getName(), new Phone("91234567"), person.getEmail(),
+                    person.getAddress(), person.getTags()));
+        }
+
+        purgedPersons = new HashSet<>();
+        for (int i = 0; i < bookSize; i += 10) {
+            purgedPersons.add(persons.get(i));
+        }
+
+        personList = new UniquePersonList();
+        personList.setPersons(persons);
+    }
+
+    @Benchmark
+    public boolean contains_present() {
+        return personList.contains(presentPerson);
+    }
+
+    @Benchmark
+    public boolean contains_absent() {
+        return personList.contains(absentPerson);
+    }
+
+    /**
+     * Adds {@value #ADDED_PERSONS} persons to a list holding {@code bookSize} persons.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OperationsPerInvocation(ADDED_PERSONS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public UniquePersonList add(FreshList freshList) {
+        for (Person person : addedPersons) {
+            freshList.personList.add(person);
+        }
+        return freshList.personList;
+    }
+
+    /**
+     * Edits {@value #CHANGED_PERSONS} persons spread evenly through a list holding {@code bookSize} persons.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OperationsPerInvocation(CHANGED_PERSONS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public UniquePersonList setPerson(FreshList freshList) {
+        for (int i = 0; i < CHANGED_PERSONS; i++) {
+            freshList.personList.setPerson(changedPersons.get(i), editedPersons.get(i));
+        }
+        return freshList.personList;
+    }
+
+    /**
+     * Deletes {@value #CHANGED_PERSONS} persons spread evenly through a list holding {@code bookSize} persons.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OperationsPerInvocation(CHANGED_PERSONS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public UniquePersonList remove(FreshList freshList) {
+        for (Person person : changedPersons) {
+            freshList.personList.remove(person);
+        }
+        return freshList.personList;
+    }
+
+    /**
+     * Edits the same persons as {@link #setPerson(FreshList)}, by their index in the list.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OperationsPerInvocation(CHANGED_PERSONS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public UniquePersonList setPerson_atIndex(FreshList freshList) {
+        for (int i = 0; i < CHANGED_PERSONS; i++) {
+            freshList.personList.setPerson(changedIndexes[i], editedPersons.get(i));
+        }
+        return freshList.personList;
+    }
+
+    /**
+     * Deletes the same persons as {@link #remove(FreshList)}, by their index in the list.
+     * The persons are deleted from the back, so that the indexes of those not yet deleted do not shift.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OperationsPerInvocation(CHANGED_PERSONS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public UniquePersonList remove_atIndex(FreshList freshList) {
+        for (int i = CHANGED_PERSONS - 1; i >= 0; i--) {
+            freshList.personList.remove(changedIndexes[i]);
+        }
+        return freshList.personList;
+    }
+
+    /**
+     * Deletes every tenth person of a list holding {@code bookSize} persons, all at once.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public UniquePersonList removeAll_everyTenthPerson(FreshList freshList) {
+        freshList.personList.removeAll(purgedPersons::contains);
+        return freshList.personList;
+    }
+
+    /**
+     * A list holding {@code bookSize} persons, rebuilt before every invocation.
+     */
+    @State(Scope.Thread)
+    public static class FreshList {
+        private UniquePersonList personList;
+
+        @Setup(Level.Invocation)
+        public void setUp(UniquePersonListBenchmark benchmark) {
+            personList = new UniquePersonList();
+            personList.setPersons(benchmark.persons);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Benchmarks the validators of the value classes of a person, against matching the same regexes with
+ * {@link String#matches(String)}, which compiles the regex on every call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private String name = "Charlotte Oliveiro";
+    private String phone = "93210283";
+    private String email = "charlotte.oliveiro@example.com";
+    private String address = "Blk 11 Ang Mo Kio Street 74, #11-04";
+    private String tagName = "neighbours";
+
+    @Benchmark
+    public void isValid(Blackhole blackhole) {
+        blackhole.consume(Name.isValidName(name));
+        blackhole.consume(Phone.isValidPhone(phone));
+        blackhole.consume(Email.isValidEmail(email));
+        blackhole.consume(Address.isValidAddress(address));
+        blackhole.consume(Tag.isValidTagName(tagName));
+    }
+
+    @Benchmark
+    public void isValid_stringMatches(Blackhole blackhole) {
+        blackhole.consume(name.matches(Name.VALIDATION_REGEX));
+        blackhole.consume(phone.matches(Phone.VALIDATION_REGEX));
+        blackhole.consume(email.matches(Email.VALIDATION_REGEX));
+        blackhole.consume(address.matches(Address.VALIDATION_REGEX));
+        blackhole.consume(tagName.matches(Tag.VALIDATION_REGEX));
+    }
+}
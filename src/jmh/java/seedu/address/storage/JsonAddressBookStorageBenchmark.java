@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil.Durability;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Benchmarks reading and saving a whole address book with {@link JsonAddressBookStorage}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int bookSize;
+
+    @Param({"true", "false"})
+    public boolean isPrettyPrinted;
+
+    private Path folder;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage storage;
+
+    /**
+     * Generates an address book of {@code bookSize} persons and saves it to a temporary file.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("JsonAddressBookStorageBenchmark");
+        addressBook = new AddressBook();
+        new SampleDataGenerator().addPersonsTo(addressBook, bookSize);
+        storage = new JsonAddressBookStorage(folder.resolve("addressbook.json"), isPrettyPrinted, Durability.NONE);
+        storage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the temporary file and its folder.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public AddressBook saveAddressBook() throws IOException {
+        storage.saveAddressBook(addressBook);
+        return addressBook;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -17,7 +18,10 @@ import seedu.address.commons.util.ToStringBuilder;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+
     private Path configPath;
+    private Path scriptPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +31,39 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the application command-line arguments before JavaFX is launched.
+     * Like JavaFX, takes each argument of the form {@code --name=value} as a named parameter and ignores the others.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,6 +72,13 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("script");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". Starting without a script.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
         return appParameters;
     }
 
@@ -56,18 +94,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
                 .toString();
     }
 }
@@ -0,0 +1,46 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil.Durability;
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Command-line entry point that writes an address book data file filled with generated persons, for reproducing the
+ * behaviour of the app on large address books.
+ * <p>
+ * Usage: {@code GenerateSampleData NUMBER_OF_PERSONS FILE [SEED]}
+ */
+public class GenerateSampleData {
+
+    public static final String MESSAGE_USAGE = "Usage: GenerateSampleData NUMBER_OF_PERSONS FILE [SEED]";
+
+    public static void main(String[] args) {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        try {
+            int count = Integer.parseInt(args[0]);
+            Path filePath = Paths.get(args[1]);
+            long seed = args.length == 3 ? Long.parseLong(args[2]) : SampleDataGenerator.DEFAULT_SEED;
+
+            SampleDataGenerator generator = new SampleDataGenerator(seed);
+            new JsonAddressBookStorage(filePath, true, Durability.FLUSH)
+                    .savePersons(generator.generatePersons(count)::iterator, filePath);
+            System.out.println("Wrote " + count + " persons to " + filePath);
+        } catch (IllegalArgumentException iae) {
+            // also thrown for numbers that cannot be parsed
+            System.err.println(iae.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        } catch (IOException ioe) {
+            System.err.println("Could not write to " + args[1] + ": " + ioe);
+            System.exit(1);
+        }
+    }
+}
@@ -26,6 +26,12 @@ public class Main {
 
     public static void main(String[] args) {
 
+        // A script runs without the UI, so it does not launch JavaFX and needs no display.
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getScriptPath() != null) {
+            System.exit(new MainApp().runScript(appParameters));
+        }
+
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
         // the classpath instead of a module.
@@ -34,7 +40,6 @@ public class Main {
         // The warning however, can be safely ignored. Thus, the following log informs
         // the user (if looking at the log output) that the said warning appearing in the log
         // can be ignored.
-
         logger.warning("The warning about Unsupported JavaFX configuration below (if any) can be ignored.");
         Application.launch(MainApp.class, args);
     }
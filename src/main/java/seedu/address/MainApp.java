@@ -1,9 +1,12 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -13,6 +16,7 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchResult;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
@@ -23,6 +27,7 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -38,6 +43,12 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+
+    public static final String MESSAGE_SCRIPT_NOT_READ = "Could not read script %1$s: %2$s";
+    public static final String MESSAGE_SAVE_FAILED = "Could not save the address book: %1$s";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -51,22 +62,54 @@ public class MainApp extends Application {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(AppParameters.parse(getParameters()));
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Initializes every component except the UI, as selected by {@code appParameters}.
+     */
+    private void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, config.isAsyncSaveEnabled());
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns the {@code AddressBookStorage} selected by {@code config} for the address book file in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(addressBookFilePath,
+                JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, config.isAddressBookPrettyPrinted(),
+                config.getSaveDurability());
+        if (config.isJournalStorageEnabled()) {
+            logger.info("Using journal storage for the address book");
+            return journalStorage;
+        }
+
+        // changes saved while journal storage was enabled may only be in the journal, which json storage ignores
+        try {
+            journalStorage.mergeJournal();
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not merge the journal of " + addressBookFilePath
+                    + " into the data file, so journal storage is used instead: " + e);
+            return journalStorage;
+        }
+        return new JsonAddressBookStorage(addressBookFilePath, config.isAddressBookPrettyPrinted(),
+                config.getSaveDurability());
     }
 
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -174,13 +217,77 @@ public class MainApp extends Application {
         ui.start(primaryStage);
     }
 
-    @Override
-    public void stop() {
-        logger.info("============================ [ Stopping AddressBook ] =============================");
+    /**
+     * Runs the commands in the script given by {@code appParameters}, one per line, without launching JavaFX, so no
+     * display is needed. The commands that failed, any error reading the script or saving the address book, and a
+     * summary of the run are printed to the console. The data and preferences are then saved as on exit.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded and the address book was saved, or
+     *     {@link #EXIT_FAILURE} otherwise.
+     */
+    int runScript(AppParameters appParameters) {
+        logger.info("=============================[ Running AddressBook script ]===========================");
+        initComponents(appParameters);
+        int exitStatus = executeScript(appParameters.getScriptPath());
+
+        Optional<IOException> saveError = flushAddressBookSaves();
+        saveError.ifPresent(e -> System.err.println(String.format(MESSAGE_SAVE_FAILED, e.getMessage())));
+        saveUserPrefs();
+        return saveError.isPresent() ? EXIT_FAILURE : exitStatus;
+    }
+
+    private int executeScript(Path scriptPath) {
+        logger.info("Running script " + scriptPath);
+        BatchResult batchResult;
+        try (Stream<String> commandTexts = Files.lines(scriptPath, StandardCharsets.UTF_8)) {
+            batchResult = logic.executeBatch(commandTexts);
+        } catch (IOException e) {
+            logger.severe("Failed to read script " + scriptPath + " : " + StringUtil.getDetails(e));
+            System.err.println(String.format(MESSAGE_SCRIPT_NOT_READ, scriptPath, e));
+            return EXIT_FAILURE;
+        }
+
+        batchResult.getFailures().forEach(System.err::println);
+        batchResult.getSaveError().ifPresent(System.err::println);
+        System.out.println(batchResult.getSummary());
+        return batchResult.hasFailures() ? EXIT_FAILURE : EXIT_SUCCESS;
+    }
+
+    /**
+     * Waits for the address book saves still in progress. If the last of them failed, the error can no longer be
+     * shown in the UI, so it is logged and the address book is saved once more.
+     *
+     * @return the error of that second save, if it also failed.
+     */
+    private Optional<IOException> flushAddressBookSaves() {
+        try {
+            storage.flushAddressBookSaves();
+        } catch (IOException e) {
+            logger.severe("Last address book save failed, saving again: " + StringUtil.getDetails(e));
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+                storage.flushAddressBookSaves();
+            } catch (IOException retryError) {
+                logger.severe("Failed to save address book, latest changes are lost "
+                        + StringUtil.getDetails(retryError));
+                return Optional.of(retryError);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void saveUserPrefs() {
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
+
+    @Override
+    public void stop() {
+        logger.info("============================ [ Stopping AddressBook ] =============================");
+        flushAddressBookSaves();
+        saveUserPrefs();
+    }
 }
@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.util.FileUtil.Durability;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -17,6 +18,15 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    /**
+     * Whether the address book is saved as a snapshot plus a journal of changes, instead of as a single json file.
+     * When this is turned off, the journal left next to the data file is merged into it and deleted on startup, so
+     * no saved change is lost. If the merge fails, the journal storage is kept for that run.
+     */
+    private boolean journalStorageEnabled = false;
+    private boolean addressBookPrettyPrinted = true;
+    private Durability saveDurability = Durability.FLUSH;
+    private boolean asyncSaveEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +44,38 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isJournalStorageEnabled() {
+        return journalStorageEnabled;
+    }
+
+    public void setJournalStorageEnabled(boolean journalStorageEnabled) {
+        this.journalStorageEnabled = journalStorageEnabled;
+    }
+
+    public boolean isAddressBookPrettyPrinted() {
+        return addressBookPrettyPrinted;
+    }
+
+    public void setAddressBookPrettyPrinted(boolean addressBookPrettyPrinted) {
+        this.addressBookPrettyPrinted = addressBookPrettyPrinted;
+    }
+
+    public Durability getSaveDurability() {
+        return saveDurability;
+    }
+
+    public void setSaveDurability(Durability saveDurability) {
+        this.saveDurability = saveDurability;
+    }
+
+    public boolean isAsyncSaveEnabled() {
+        return asyncSaveEnabled;
+    }
+
+    public void setAsyncSaveEnabled(boolean asyncSaveEnabled) {
+        this.asyncSaveEnabled = asyncSaveEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +89,17 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && journalStorageEnabled == otherConfig.journalStorageEnabled
+                && addressBookPrettyPrinted == otherConfig.addressBookPrettyPrinted
+                && Objects.equals(saveDurability, otherConfig.saveDurability)
+                && asyncSaveEnabled == otherConfig.asyncSaveEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, journalStorageEnabled, addressBookPrettyPrinted,
+                saveDurability, asyncSaveEnabled);
     }
 
     @Override
@@ -60,6 +107,10 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("journalStorageEnabled", journalStorageEnabled)
+                .add("addressBookPrettyPrinted", addressBookPrettyPrinted)
+                .add("saveDurability", saveDurability)
+                .add("asyncSaveEnabled", asyncSaveEnabled)
                 .toString();
     }
 
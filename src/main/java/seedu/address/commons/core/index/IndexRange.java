@@ -0,0 +1,63 @@
+package seedu.address.commons.core.index;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a range of consecutive indexes, from a start {@code Index} to an end {@code Index}, both inclusive.
+ * A range is kept as its two ends, so a large range takes no more space than a single index.
+ */
+public class IndexRange {
+    private final Index start;
+    private final Index end;
+
+    /**
+     * Constructs an {@code IndexRange} from {@code start} to {@code end}, both inclusive.
+     * {@code start} must not be after {@code end}.
+     */
+    public IndexRange(Index start, Index end) {
+        requireAllNonNull(start, end);
+        if (start.getZeroBased() > end.getZeroBased()) {
+            throw new IllegalArgumentException("Start of range is after its end");
+        }
+
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Creates a new {@code IndexRange} holding only {@code index}.
+     */
+    public static IndexRange of(Index index) {
+        return new IndexRange(index, index);
+    }
+
+    public Index getStart() {
+        return start;
+    }
+
+    public Index getEnd() {
+        return end;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexRange)) {
+            return false;
+        }
+
+        IndexRange otherIndexRange = (IndexRange) other;
+        return start.equals(otherIndexRange.start) && end.equals(otherIndexRange.end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("start", start).add("end", end).toString();
+    }
+}
@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,27 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    /**
+     * How far written data is pushed towards the storage device before a write is considered done.
+     */
+    public enum Durability {
+        /** Leaves it to the operating system to decide when written data reaches the device. */
+        NONE,
+        /** Forces the written content to the device before a written file replaces the old one. */
+        FLUSH,
+        /** Forces the written content and file metadata to the device, and makes the replacement itself durable. */
+        FSYNC
+    }
+
+    /**
+     * Writes the content of a file to the given stream.
+     */
+    @FunctionalInterface
+    public interface FileWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -77,7 +106,96 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, out -> out.write(bytes), Durability.NONE);
+    }
+
+    /**
+     * Writes the content produced by {@code writer} to a temporary file next to {@code file}, forces it to the
+     * device as required by {@code durability}, and then atomically moves it over {@code file}.
+     * If anything fails, {@code file} is left untouched, so it is never observed partially written.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, FileWriter writer, Durability durability)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = new BufferedOutputStream(
+                        new NonClosingOutputStream(Channels.newOutputStream(channel)));
+                writer.writeTo(out);
+                out.flush();
+                if (durability != Durability.NONE) {
+                    channel.force(durability == Durability.FSYNC);
+                }
+            }
+            moveAtomically(temporaryFile, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+
+        if (durability == Durability.FSYNC) {
+            forceDirectory(directory);
+        }
+    }
+
+    /**
+     * Appends {@code content} to the end of {@code file}, forcing it to the device as required by {@code durability}.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, byte[] content, Durability durability) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            OutputStream out = Channels.newOutputStream(channel);
+            out.write(content);
+            if (durability != Durability.NONE) {
+                channel.force(durability == Durability.FSYNC);
+            }
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just moved into it, to the device.
+     * Not all platforms allow directories to be opened, in which case this does nothing.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the move itself has succeeded; it is only not guaranteed to survive a power loss yet
+        }
+    }
+
+    /**
+     * Lets writers close the stream they are given without closing the underlying file before it has been forced.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 
 }
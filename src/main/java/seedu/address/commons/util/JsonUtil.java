@@ -3,18 +3,26 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +30,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -39,6 +48,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Flushing after every streamed element would defeat the buffering of the target
+    private static ObjectWriter elementWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -92,6 +105,75 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Streams the elements of the array held by the field {@code arrayFieldName} of the JSON object read from
+     * {@code source}, passing each element to {@code elementConsumer} as soon as it has been read.
+     * Only one element is held in memory at a time. Other fields of the object are skipped, and a missing or null
+     * array is treated as empty.
+     * @param <T> The type that each array element is converted to
+     * @throws IOException if {@code source} could not be read or is not a JSON object holding such an array
+     * @throws IllegalValueException if {@code elementConsumer} rejects an element
+     */
+    public static <T> void readJsonArrayElements(InputStream source, String arrayFieldName, Class<T> elementClass,
+            JsonElementConsumer<T> elementConsumer) throws IOException, IllegalValueException {
+        requireNonNull(source);
+        requireNonNull(arrayFieldName);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(source)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!arrayFieldName.equals(fieldName) || valueToken == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array in field " + arrayFieldName);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementConsumer.accept(objectMapper.readValue(parser, elementClass));
+                }
+            }
+
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected end of JSON object");
+            }
+        }
+    }
+
+    /**
+     * Writes to {@code target} a JSON object with the single field {@code arrayFieldName}, holding an array of
+     * {@code elements} each converted by {@code elementAdapter}.
+     * Elements are converted and written one at a time, so the JSON is never held in memory as a whole.
+     * @param isPrettyPrinted whether to indent the JSON, instead of writing it without any whitespace
+     * @param <S> The type of the elements to write
+     * @throws IOException if there was an error writing to {@code target}
+     */
+    public static <S> void writeJsonArrayElements(OutputStream target, String arrayFieldName, Iterable<S> elements,
+            Function<S, ?> elementAdapter, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(target);
+        requireNonNull(arrayFieldName);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(target)) {
+            if (isPrettyPrinted) {
+                generator.useDefaultPrettyPrinter();
+            }
+
+            generator.writeStartObject();
+            generator.writeFieldName(arrayFieldName);
+            generator.writeStartArray();
+            for (S element : elements) {
+                elementWriter.writeValue(generator, elementAdapter.apply(element));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +193,25 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * without any pretty printing.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return compact JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Receives the elements streamed by {@code readJsonArrayElements}.
+     */
+    @FunctionalInterface
+    public interface JsonElementConsumer<T> {
+        void accept(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
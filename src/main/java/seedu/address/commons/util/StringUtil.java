@@ -5,7 +5,6 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
 
 /**
  * Helper functions for handling strings.
@@ -25,17 +24,68 @@ public class StringUtil {
      */
     public static boolean containsWordIgnoreCase(String sentence, String word) {
         requireNonNull(sentence);
+
+        return containsPreparedWordIgnoreCase(sentence, prepareWord(word));
+    }
+
+    /**
+     * Returns {@code word} with leading and trailing whitespace removed, ready to be passed to
+     * {@link #containsPreparedWordIgnoreCase(String, String)}.
+     * Callers that match the same word against many sentences, such as
+     * {@code NameContainsKeywordsPredicate}, validate and trim it only once this way.
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static String prepareWord(String word) {
         requireNonNull(word);
 
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(indexOfWhitespace(preppedWord, 0) == preppedWord.length(),
+                "Word parameter should be a single word");
+        return preppedWord;
+    }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+    /**
+     * Returns true if the {@code sentence} contains the {@code preppedWord}, as {@link #containsWordIgnoreCase} does.
+     * The words of {@code sentence} are compared in place, without splitting it.
+     * @param sentence cannot be null
+     * @param preppedWord a word returned by {@link #prepareWord(String)}
+     */
+    public static boolean containsPreparedWordIgnoreCase(String sentence, String preppedWord) {
+        int wordLength = preppedWord.length();
+        int length = sentence.length();
+        int start = 0;
+        while (start < length) {
+            if (isWhitespace(sentence.charAt(start))) {
+                start++;
+                continue;
+            }
+            int end = indexOfWhitespace(sentence, start);
+            if (end - start == wordLength && sentence.regionMatches(true, start, preppedWord, 0, wordLength)) {
+                return true;
+            }
+            start = end;
+        }
+        return false;
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns the index of the first whitespace character in {@code s} at or after {@code fromIndex},
+     * or the length of {@code s} if there is none.
+     */
+    private static int indexOfWhitespace(String s, int fromIndex) {
+        int index = fromIndex;
+        while (index < s.length() && !isWhitespace(s.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns true if {@code c} is a whitespace character as matched by {@code \s} in a regex.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     /**
@@ -0,0 +1,105 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the result of executing a batch of commands.
+ */
+public class BatchResult {
+
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d [%2$s]: %3$s";
+    public static final String MESSAGE_READ_FAILED = "Could not read the commands after line %1$d: %2$s";
+    public static final String MESSAGE_SUMMARY =
+            "Executed %1$d commands in %2$.3f seconds (%3$.0f commands per second), %4$d failed";
+
+    private final int commandCount;
+    private final List<String> failures;
+    private final long elapsedNanos;
+    private final String saveError;
+
+    /**
+     * Constructs a {@code BatchResult} for {@code commandCount} commands that took {@code elapsedNanos} nanoseconds
+     * to execute, of which the ones described by {@code failures} failed, and whose changes were saved.
+     */
+    public BatchResult(int commandCount, List<String> failures, long elapsedNanos) {
+        this(commandCount, failures, elapsedNanos, null);
+    }
+
+    /**
+     * Constructs a {@code BatchResult} like {@link #BatchResult(int, List, long)}, except that saving the changes
+     * failed with the message {@code saveError}, unless it is null.
+     */
+    public BatchResult(int commandCount, List<String> failures, long elapsedNanos, String saveError) {
+        requireNonNull(failures);
+        this.commandCount = commandCount;
+        this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+        this.elapsedNanos = elapsedNanos;
+        this.saveError = saveError;
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Returns a description of each command that failed, in the order that they were executed.
+     */
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the error message of saving the changes made by the commands, if the save failed.
+     */
+    public Optional<String> getSaveError() {
+        return Optional.ofNullable(saveError);
+    }
+
+    /**
+     * Returns true if any command failed, the commands could not all be read, or the changes could not be saved.
+     */
+    public boolean hasFailures() {
+        return !failures.isEmpty() || saveError != null;
+    }
+
+    /**
+     * Returns the number of commands executed per second, or 0 if no time was measured.
+     */
+    public double getCommandsPerSecond() {
+        return elapsedNanos == 0 ? 0 : commandCount / getElapsedSeconds();
+    }
+
+    /**
+     * Returns a one-line summary of the number of commands executed and failed, and of the throughput.
+     */
+    public String getSummary() {
+        return String.format(MESSAGE_SUMMARY, commandCount, getElapsedSeconds(), getCommandsPerSecond(),
+                failures.size());
+    }
+
+    private double getElapsedSeconds() {
+        return (double) elapsedNanos / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandCount", commandCount)
+                .add("failures", failures)
+                .add("elapsedNanos", elapsedNanos)
+                .add("saveError", saveError)
+                .toString();
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +25,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes each of {@code commandTexts} in order, skipping blank ones, and saves the address book once after the
+     * last of them. A command that fails is reported in the returned result, and does not stop the commands after it.
+     * If {@code commandTexts} throws while being read, the error is reported in the same way, and the changes made
+     * by the commands before it are still saved.
+     * @param commandTexts The commands, one per line of a script.
+     * @return the number of commands executed, the failures among them, any error saving the address book, and the
+     *     time taken.
+     */
+    BatchResult executeBatch(Stream<String> commandTexts);
+
+    /**
+     * Sets the handler to be given the error message of a save that fails after the command which triggered it
+     * has returned. The handler may be called from a background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
     /**
      * Returns the AddressBook.
      *
@@ -1,9 +1,16 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -33,13 +40,18 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    private volatile Consumer<String> saveErrorHandler = unused -> { };
+    /** Set when a background save has failed, so that the next command saves the address book again. */
+    private volatile boolean isSaveRetryNeeded;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        addressBookParser = new AddressBookParser(storage::readPersons);
+        storage.setAddressBookSaveErrorHandler(this::handleBackgroundSaveError);
     }
 
     @Override
@@ -50,15 +62,96 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        saveAddressBookIfChanged();
+
+        return commandResult;
+    }
+
+    @Override
+    public BatchResult executeBatch(Stream<String> commandTexts) {
+        requireNonNull(commandTexts);
+        logger.info("----------------[BATCH STARTED]");
+
+        long startTime = System.nanoTime();
+        int commandCount = 0;
+        int lineNumber = 0;
+        List<String> failures = new ArrayList<>();
+        Iterator<String> iterator = commandTexts.iterator();
+        while (true) {
+            String commandText;
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                commandText = iterator.next();
+            } catch (RuntimeException e) {
+                // the commands read so far have been executed, so their changes are still saved below
+                logger.warning("Failed to read batch commands after line " + lineNumber + ": " + e);
+                failures.add(String.format(BatchResult.MESSAGE_READ_FAILED, lineNumber, e.getMessage()));
+                break;
+            }
+            lineNumber++;
+            if (commandText.isBlank()) {
+                continue;
+            }
+
+            commandCount++;
+            logger.fine(() -> "----------------[BATCH COMMAND][" + commandText + "]");
+            try {
+                addressBookParser.parseCommand(commandText).execute(model);
+            } catch (CommandException | ParseException | RuntimeException e) {
+                failures.add(String.format(BatchResult.MESSAGE_COMMAND_FAILED, lineNumber, commandText,
+                        e.getMessage()));
+            }
+        }
+
+        String saveError = null;
+        try {
+            saveAddressBookIfChanged();
+        } catch (CommandException ce) {
+            saveError = ce.getMessage();
+        }
+
+        BatchResult batchResult = new BatchResult(commandCount, failures, System.nanoTime() - startTime, saveError);
+        logger.info("----------------[BATCH FINISHED][" + batchResult.getSummary() + "]");
+        return batchResult;
+    }
+
+    /**
+     * Saves the address book to storage if it has been modified since it was last saved.
+     *
+     * @throws CommandException If an error occurs while saving.
+     */
+    private void saveAddressBookIfChanged() throws CommandException {
+        if (!model.hasUnsavedAddressBookChanges() && !isSaveRetryNeeded) {
+            return;
+        }
+
+        long generation = model.getAddressBookGeneration();
+        isSaveRetryNeeded = false;
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
+        model.markAddressBookSaved(generation);
+    }
 
-        return commandResult;
+    private void handleBackgroundSaveError(IOException ioe) {
+        isSaveRetryNeeded = true;
+        saveErrorHandler.accept(getSaveErrorMessage(ioe));
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        this.saveErrorHandler = saveErrorHandler;
     }
 
     @Override
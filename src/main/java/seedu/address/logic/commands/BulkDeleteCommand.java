@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Deletes several persons from the address book at once, either those at ranges of indexes in the displayed person
+ * list, or every person in the address book that satisfies a predicate.
+ * The persons to delete are determined up front and then deleted as a single change, so the address book is saved
+ * only once.
+ */
+public class BulkDeleteCommand extends Command {
+
+    public static final String MESSAGE_DELETE_PERSONS_SUCCESS = "Deleted %1$d persons";
+
+    private final List<IndexRange> targetRanges;
+    private final Predicate<Person> predicate;
+
+    /**
+     * Creates a BulkDeleteCommand to delete the persons at {@code targetRanges} of the displayed person list.
+     */
+    public BulkDeleteCommand(List<IndexRange> targetRanges) {
+        requireNonNull(targetRanges);
+        this.targetRanges = targetRanges;
+        this.predicate = null;
+    }
+
+    /**
+     * Creates a BulkDeleteCommand to delete every person in the address book that satisfies {@code predicate}.
+     */
+    public BulkDeleteCommand(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        this.targetRanges = Collections.emptyList();
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Predicate<Person> toDelete = predicate != null ? predicate : getPersonsAtTargetRanges(model)::contains;
+        List<Person> deletedPersons = model.deletePersons(toDelete);
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSONS_SUCCESS, deletedPersons.size()));
+    }
+
+    /**
+     * Returns the persons at {@code targetRanges} of the displayed person list.
+     *
+     * @throws CommandException if any of the ranges extends past the end of the list.
+     */
+    private Set<Person> getPersonsAtTargetRanges(Model model) throws CommandException {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        for (IndexRange targetRange : targetRanges) {
+            if (targetRange.getEnd().getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+        }
+
+        Set<Person> persons = new HashSet<>();
+        for (IndexRange targetRange : targetRanges) {
+            int end = targetRange.getEnd().getZeroBased();
+            for (int i = targetRange.getStart().getZeroBased(); i <= end; i++) {
+                persons.add(lastShownList.get(i));
+            }
+        }
+        return persons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkDeleteCommand)) {
+            return false;
+        }
+
+        BulkDeleteCommand otherBulkDeleteCommand = (BulkDeleteCommand) other;
+        return targetRanges.equals(otherBulkDeleteCommand.targetRanges)
+                && Objects.equals(predicate, otherBulkDeleteCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetRanges", targetRanges)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
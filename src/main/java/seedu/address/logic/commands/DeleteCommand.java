@@ -1,6 +1,8 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.List;
 
@@ -21,7 +23,15 @@ public class DeleteCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the person identified by the index number used in the displayed person list.\n"
             + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Several persons can be deleted at once by giving a comma-separated list of index numbers and ranges, "
+            + "or by giving name keywords or tags to delete every person in the address book with any of them.\n"
+            + "Parameters: INDEX[-INDEX][,INDEX[-INDEX]]... or "
+            + PREFIX_NAME + "KEYWORD [MORE_KEYWORDS]... or "
+            + PREFIX_TAG + "TAG [" + PREFIX_TAG + "TAG]...\n"
+            + "Examples: " + COMMAND_WORD + " 1-500,700, "
+            + COMMAND_WORD + " " + PREFIX_NAME + "alice bob, "
+            + COMMAND_WORD + " " + PREFIX_TAG + "stale";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
 
@@ -41,7 +51,7 @@ public class DeleteCommand extends Command {
         }
 
         Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deletePerson(personToDelete);
+        model.deleteFilteredPerson(targetIndex);
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
 
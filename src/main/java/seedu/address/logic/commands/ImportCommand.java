@@ -0,0 +1,95 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Adds all persons in a CSV or JSON file to the address book.
+ * The file is read when the command is parsed, so the command only holds the persons read from it.
+ * The persons are added as a single change, so the person list is updated and the address book saved only once.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds all persons in a CSV or JSON file to the "
+            + "address book. No persons are added if any of them is invalid or already exists.\n"
+            + "Parameters: FILE_PATH (must end with .csv or .json)\n"
+            + "Example: " + COMMAND_WORD + " data/contacts.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s";
+    public static final String MESSAGE_DUPLICATE_PERSONS =
+            "Could not import %1$s. These persons already exist or appear more than once: %2$s";
+    /** Maximum number of duplicate persons named in {@link #MESSAGE_DUPLICATE_PERSONS}. */
+    public static final int MAX_DUPLICATE_PERSONS_SHOWN = 5;
+
+    private final Path filePath;
+    private final List<Person> persons;
+
+    /**
+     * Creates an ImportCommand to add {@code persons}, which were read from the file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath, List<Person> persons) {
+        requireAllNonNull(filePath, persons);
+        this.filePath = filePath;
+        this.persons = Collections.unmodifiableList(new ArrayList<>(persons));
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        try {
+            model.addPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_PERSONS, filePath,
+                    formatNames(dpe.getDuplicatePersons())), dpe);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, persons.size(), filePath));
+    }
+
+    private static String formatNames(List<Person> persons) {
+        String names = persons.stream()
+                .limit(MAX_DUPLICATE_PERSONS_SHOWN)
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", "));
+        int namesNotShown = persons.size() - MAX_DUPLICATE_PERSONS_SHOWN;
+        return namesNotShown > 0 ? names + " and " + namesNotShown + " more" : names;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath)
+                && persons.equals(otherImportCommand.persons);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("persons", persons)
+                .toString();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,9 +17,13 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * Values are appended to their list in place, and are read through read-only views of the lists, without copying.
  */
 public class ArgumentMultimap {
 
+    /** Key of the preamble, which is the text before the first valid prefix. */
+    static final Prefix PREAMBLE_PREFIX = new Prefix("");
+
     /** Prefixes mapped to their respective arguments**/
     private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
 
@@ -30,36 +35,32 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>()).add(argValue);
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        List<String> values = argMultimap.get(prefix);
+        return values == null ? Optional.empty() : Optional.of(values.get(values.size() - 1));
     }
 
     /**
-     * Returns all values of {@code prefix}.
+     * Returns all values of {@code prefix}, in the order that they were put.
      * If the prefix does not exist or has no values, this will return an empty list.
-     * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
+     * The returned list is a read-only view of the values, and cannot be modified.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
-        }
-        return new ArrayList<>(argMultimap.get(prefix));
+        List<String> values = argMultimap.get(prefix);
+        return values == null ? Collections.emptyList() : Collections.unmodifiableList(values);
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(PREAMBLE_PREFIX).orElse("");
     }
 
     /**
@@ -68,7 +69,7 @@ public class ArgumentMultimap {
      */
     public void verifyNoDuplicatePrefixesFor(Prefix... prefixes) throws ParseException {
         Prefix[] duplicatedPrefixes = Stream.of(prefixes).distinct()
-                .filter(prefix -> argMultimap.containsKey(prefix) && argMultimap.get(prefix).size() > 1)
+                .filter(prefix -> getAllValues(prefix).size() > 1)
                 .toArray(Prefix[]::new);
 
         if (duplicatedPrefixes.length > 0) {
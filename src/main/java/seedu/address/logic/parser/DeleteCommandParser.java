@@ -1,29 +1,87 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.commands.BulkDeleteCommand;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.TagFilterPredicate;
+import seedu.address.model.tag.Tag;
 
 /**
- * Parses input arguments and creates a new DeleteCommand object
+ * Parses input arguments and creates a new DeleteCommand object, or a BulkDeleteCommand object if the input
+ * identifies more than one person.
  */
-public class DeleteCommandParser implements Parser<DeleteCommand> {
+public class DeleteCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteCommand
-     * and returns a DeleteCommand object for execution.
+     * and returns a DeleteCommand or BulkDeleteCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public DeleteCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TAG);
+        boolean hasName = argMultimap.getValue(PREFIX_NAME).isPresent();
+        boolean hasTag = argMultimap.getValue(PREFIX_TAG).isPresent();
+        boolean hasPreamble = !argMultimap.getPreamble().isEmpty();
+
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new DeleteCommand(index);
+            if (hasName && !hasTag && !hasPreamble) {
+                return new BulkDeleteCommand(new NameContainsKeywordsPredicate(
+                        parseNameKeywords(argMultimap.getAllValues(PREFIX_NAME))));
+            } else if (hasTag && !hasName && !hasPreamble) {
+                Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+                return new BulkDeleteCommand(TagFilterPredicate.hasAnyTag(tags));
+            } else if (!hasName && !hasTag) {
+                return parseIndexes(argMultimap.getPreamble());
+            }
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE), pe);
         }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Parses {@code indexes} into a DeleteCommand if it is a single index, or a BulkDeleteCommand otherwise.
+     */
+    private static Command parseIndexes(String indexes) throws ParseException {
+        List<IndexRange> indexRanges = ParserUtil.parseIndexRanges(indexes);
+        if (indexRanges.size() == 1 && indexRanges.get(0).getStart().equals(indexRanges.get(0).getEnd())) {
+            Index index = indexRanges.get(0).getStart();
+            return new DeleteCommand(index);
+        }
+        return new BulkDeleteCommand(indexRanges);
+    }
+
+    /**
+     * Splits each of {@code values} into its whitespace-separated keywords.
+     *
+     * @throws ParseException if there are no keywords.
+     */
+    private static List<String> parseNameKeywords(List<String> values) throws ParseException {
+        List<String> keywords = new ArrayList<>();
+        for (String value : values) {
+            String trimmedValue = value.trim();
+            if (!trimmedValue.isEmpty()) {
+                keywords.addAll(Arrays.asList(trimmedValue.split("\\s+")));
+            }
+        }
+        if (keywords.isEmpty()) {
+            throw new ParseException("No name keywords given");
+        }
+        return keywords;
     }
 
 }
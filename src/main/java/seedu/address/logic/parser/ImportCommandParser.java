@@ -0,0 +1,63 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object holding the persons read from the given file.
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %1$s";
+    public static final String MESSAGE_FILE_NOT_READ = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_INVALID_FILE = "Could not import %1$s. %2$s";
+
+    private final PersonFileReader personFileReader;
+
+    /**
+     * Creates an ImportCommandParser that reads the persons to be imported with {@code personFileReader}.
+     */
+    public ImportCommandParser(PersonFileReader personFileReader) {
+        requireNonNull(personFileReader);
+        this.personFileReader = personFileReader;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, or the file it names could not
+     *     be read or holds an invalid person
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath = Paths.get(trimmedArgs);
+        List<Person> persons;
+        try {
+            persons = personFileReader.readPersons(filePath);
+        } catch (NoSuchFileException nsfe) {
+            throw new ParseException(String.format(MESSAGE_FILE_NOT_FOUND, filePath), nsfe);
+        } catch (IOException ioe) {
+            throw new ParseException(String.format(MESSAGE_FILE_NOT_READ, filePath, ioe.getMessage()), ioe);
+        } catch (IllegalValueException ive) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE, filePath, ive.getMessage()), ive);
+        }
+        return new ImportCommand(filePath, persons);
+    }
+
+}
@@ -2,11 +2,14 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
@@ -21,6 +24,8 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE =
+            "Index range is not of the form START-END, where START is not greater than END.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -35,6 +40,31 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexRanges}, a comma-separated list of indexes and ranges of indexes such as "1-5,8",
+     * into a list of {@code IndexRange}s and returns it. Whitespace around each index will be trimmed.
+     * @throws ParseException if any index or range is invalid.
+     */
+    public static List<IndexRange> parseIndexRanges(String oneBasedIndexRanges) throws ParseException {
+        requireNonNull(oneBasedIndexRanges);
+        List<IndexRange> indexRanges = new ArrayList<>();
+        for (String indexRange : oneBasedIndexRanges.split(",", -1)) {
+            int separator = indexRange.indexOf('-');
+            if (separator < 0) {
+                indexRanges.add(IndexRange.of(parseIndex(indexRange)));
+                continue;
+            }
+
+            Index start = parseIndex(indexRange.substring(0, separator));
+            Index end = parseIndex(indexRange.substring(separator + 1));
+            if (start.getZeroBased() > end.getZeroBased()) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+            indexRanges.add(new IndexRange(start, end));
+        }
+        return indexRanges;
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -107,7 +137,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -0,0 +1,23 @@
+package seedu.address.logic.parser;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads the persons to be imported from a file, on behalf of {@link ImportCommandParser}.
+ */
+@FunctionalInterface
+public interface PersonFileReader {
+
+    /**
+     * Returns the persons in the file at {@code filePath}, in the order that they appear in the file.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the file is malformed or holds an invalid person.
+     */
+    List<Person> readPersons(Path filePath) throws IOException, IllegalValueException;
+}
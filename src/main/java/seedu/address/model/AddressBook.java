@@ -2,20 +2,29 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * <p>
+ * Changes that add or rename persons update the name index before the person list. Filtered views of the person
+ * list re-test the changed persons as soon as the list changes, and predicates from
+ * {@link #getNameKeywordsPredicate(List)} must already see the new names by then.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final NameIndex nameIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +35,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        nameIndex = new NameIndex();
     }
 
     public AddressBook() {}
@@ -45,7 +55,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        nameIndex.setPersons(persons);
+        try {
+            this.persons.setPersons(persons);
+        } catch (RuntimeException e) {
+            nameIndex.setPersons(this.persons.asUnmodifiableObservableList());
+            throw e;
+        }
     }
 
     /**
@@ -72,7 +88,35 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        boolean isNameAdded = nameIndex.add(p.getName());
+        try {
+            persons.add(p);
+        } catch (RuntimeException e) {
+            if (isNameAdded) {
+                nameIndex.remove(p.getName());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Adds all of {@code persons} to the address book at once.
+     * None of {@code persons} may already exist in the address book, or share an identity with another of them.
+     */
+    public void addPersons(List<Person> persons) {
+        List<Name> addedNames = new ArrayList<>();
+        for (Person person : persons) {
+            if (nameIndex.add(person.getName())) {
+                addedNames.add(person.getName());
+            }
+        }
+
+        try {
+            this.persons.addAll(persons);
+        } catch (RuntimeException e) {
+            addedNames.forEach(nameIndex::remove);
+            throw e;
+        }
     }
 
     /**
@@ -83,7 +127,39 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        replacePerson(target.getName(), editedPerson.getName(), () -> persons.setPerson(target, editedPerson));
+    }
+
+    /**
+     * Replaces the person at {@code index} in the list with {@code editedPerson}.
+     * {@code index} must be within the list.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    public void setPerson(int index, Person editedPerson) {
+        requireNonNull(editedPerson);
+
+        Person target = persons.asUnmodifiableObservableList().get(index);
+        replacePerson(target.getName(), editedPerson.getName(), () -> persons.setPerson(index, editedPerson));
+    }
+
+    /**
+     * Renames {@code targetName} to {@code editedName} in the name index, then replaces the person in the person list
+     * with {@code replacement}. The name index is restored if the replacement fails.
+     */
+    private void replacePerson(Name targetName, Name editedName, Runnable replacement) {
+        boolean isTargetNameRemoved = nameIndex.remove(targetName);
+        boolean isEditedNameAdded = nameIndex.add(editedName);
+        try {
+            replacement.run();
+        } catch (RuntimeException e) {
+            if (isEditedNameAdded) {
+                nameIndex.remove(editedName);
+            }
+            if (isTargetNameRemoved) {
+                nameIndex.add(targetName);
+            }
+            throw e;
+        }
     }
 
     /**
@@ -92,6 +168,37 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        nameIndex.remove(key.getName());
+    }
+
+    /**
+     * Removes the person at {@code index} in the list from this {@code AddressBook}.
+     * {@code index} must be within the list.
+     */
+    public void removePerson(int index) {
+        Person removed = persons.remove(index);
+        nameIndex.remove(removed.getName());
+    }
+
+    /**
+     * Removes every person that satisfies {@code predicate} from this {@code AddressBook}, as a single change.
+     *
+     * @return the persons removed.
+     */
+    public List<Person> removePersons(Predicate<Person> predicate) {
+        List<Person> removedPersons = persons.removeAll(predicate);
+        for (Person person : removedPersons) {
+            nameIndex.remove(person.getName());
+        }
+        return removedPersons;
+    }
+
+    /**
+     * Returns a predicate that tests if a person's name contains any of {@code keywords}, ignoring case.
+     * The matches are looked up in the name index of this address book instead of being tested name by name.
+     */
+    public Predicate<Person> getNameKeywordsPredicate(List<String> keywords) {
+        return nameIndex.containsAnyWordPredicate(keywords);
     }
 
     //// util methods
@@ -1,10 +1,12 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.person.Person;
 
 /**
@@ -52,6 +54,22 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the change generation of the address book.
+     * The generation increases every time the address book is modified.
+     */
+    long getAddressBookGeneration();
+
+    /**
+     * Returns true if the address book has been modified since it was last marked as saved.
+     */
+    boolean hasUnsavedAddressBookChanges();
+
+    /**
+     * Records that the address book, as it was at change generation {@code generation}, has been saved.
+     */
+    void markAddressBookSaved(long generation);
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -63,12 +81,26 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes every person in the address book that satisfies {@code predicate}, as a single change to the address
+     * book.
+     *
+     * @return the persons deleted.
+     */
+    List<Person> deletePersons(Predicate<Person> predicate);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons, as a single change to the address book.
+     * None of {@code persons} may already exist in the address book, or share an identity with another of them.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -76,6 +108,19 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Deletes the person at {@code index} of the filtered person list.
+     * {@code index} must be within the filtered person list.
+     */
+    void deleteFilteredPerson(Index index);
+
+    /**
+     * Replaces the person at {@code index} of the filtered person list with {@code editedPerson}.
+     * {@code index} must be within the filtered person list.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    void setFilteredPerson(Index index, Person editedPerson);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -84,4 +129,12 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Returns a predicate that tests if a person's name contains any of {@code keywords}, ignoring case.
+     * The matches are looked up in the name index of the address book, so the predicate is cheaper to evaluate than a
+     * {@code NameContainsKeywordsPredicate} with the same keywords.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    Predicate<Person> getNameKeywordsPredicate(List<String> keywords);
 }
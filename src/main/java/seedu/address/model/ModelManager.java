@@ -4,13 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.person.Person;
 
 /**
@@ -22,6 +25,8 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private long addressBookGeneration;
+    private long savedAddressBookGeneration;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -34,6 +39,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> addressBookGeneration++);
     }
 
     public ModelManager() {
@@ -87,6 +93,21 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookGeneration() {
+        return addressBookGeneration;
+    }
+
+    @Override
+    public boolean hasUnsavedAddressBookChanges() {
+        return addressBookGeneration != savedAddressBookGeneration;
+    }
+
+    @Override
+    public void markAddressBookSaved(long generation) {
+        savedAddressBookGeneration = generation;
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -98,12 +119,24 @@ public class ModelManager implements Model {
         addressBook.removePerson(target);
     }
 
+    @Override
+    public List<Person> deletePersons(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return addressBook.removePersons(predicate);
+    }
+
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -111,6 +144,18 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void deleteFilteredPerson(Index index) {
+        requireNonNull(index);
+        addressBook.removePerson(filteredPersons.getSourceIndex(index.getZeroBased()));
+    }
+
+    @Override
+    public void setFilteredPerson(Index index, Person editedPerson) {
+        requireAllNonNull(index, editedPerson);
+        addressBook.setPerson(filteredPersons.getSourceIndex(index.getZeroBased()), editedPerson);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -128,6 +173,12 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<Person> getNameKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getNameKeywordsPredicate(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -46,9 +46,58 @@ public class Email {
 
     /**
      * Returns if a given string is a valid email.
+     * Accepts exactly the strings matched by {@link #VALIDATION_REGEX}, but checks them in a single pass over
+     * {@code test}, so that the time taken grows linearly with its length. Matching the regex instead backtracks
+     * through the ways of splitting a malformed domain name into parts, which takes about 45ms for a domain name of
+     * 400 characters and seconds for a few thousand.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int length = test.length();
+        int i = 0;
+
+        // local-part: runs of alphanumeric characters, separated by single special characters
+        boolean isAfterAlphanumeric = false;
+        for (; i < length && test.charAt(i) != '@'; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        if (i == length || !isAfterAlphanumeric) {
+            return false;
+        }
+        i++; // skips the '@'
+
+        // domain: labels separated by single periods, each made up of runs of alphanumeric characters separated by
+        // single hyphens. The last label must contain a run of at least two characters, as it must match
+        // DOMAIN_PART_REGEX at least twice.
+        int runLength = 0;
+        boolean hasRunOfTwo = false;
+        for (; i < length; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                runLength++;
+                hasRunOfTwo |= runLength >= 2;
+            } else if (runLength > 0 && (c == '-' || c == '.')) {
+                runLength = 0;
+                hasRunOfTwo &= c == '-';
+            } else {
+                return false;
+            }
+        }
+        return runLength > 0 && hasRunOfTwo;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@link #ALPHANUMERIC_NO_UNDERSCORE}, which only matches ASCII letters and
+     * digits.
+     */
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
     }
 
     @Override
@@ -8,18 +8,41 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * <p>
+ * The find command only uses this predicate to carry its keywords, and filters with the name index through
+ * {@link seedu.address.model.Model#getNameKeywordsPredicate(List)} instead. {@link #test(Person)} is evaluated on
+ * every person when deleting persons by name, so the keywords are prepared once, on construction.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] preppedKeywords;
 
+    /**
+     * Creates a predicate that matches names containing any of {@code keywords}.
+     *
+     * @throws IllegalArgumentException if any of {@code keywords} is empty or is not a single word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        preppedKeywords = new String[keywords.size()];
+        for (int i = 0; i < preppedKeywords.length; i++) {
+            preppedKeywords[i] = StringUtil.prepareWord(keywords.get(i));
+        }
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        String fullName = person.getName().fullName;
+        for (String preppedKeyword : preppedKeywords) {
+            if (StringUtil.containsPreparedWordIgnoreCase(fullName, preppedKeyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
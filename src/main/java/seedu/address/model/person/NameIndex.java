@@ -0,0 +1,142 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An inverted index from the words of person names to the names containing them.
+ * Words are compared case-insensitively, in the same way as by {@link NameContainsKeywordsPredicate}.
+ * <p>
+ * Looking up the names that contain a word takes constant time regardless of the number of names indexed.
+ */
+public class NameIndex {
+
+    private final Map<String, Set<Name>> namesByWord = new HashMap<>();
+    /** Incremented on every change, so that predicates can tell when their resolved matches are out of date. */
+    private long modificationCount;
+
+    /**
+     * Indexes {@code name} under each of its words.
+     *
+     * @return true if {@code name} was not already indexed.
+     */
+    public boolean add(Name name) {
+        requireNonNull(name);
+        boolean isAdded = false;
+        for (String word : toWords(name.fullName)) {
+            isAdded |= namesByWord.computeIfAbsent(word, unused -> new HashSet<>()).add(name);
+        }
+        modificationCount++;
+        return isAdded;
+    }
+
+    /**
+     * Removes {@code name} from the index.
+     *
+     * @return true if {@code name} was indexed.
+     */
+    public boolean remove(Name name) {
+        requireNonNull(name);
+        boolean isRemoved = false;
+        for (String word : toWords(name.fullName)) {
+            Set<Name> names = namesByWord.get(word);
+            if (names != null && names.remove(name)) {
+                isRemoved = true;
+                if (names.isEmpty()) {
+                    namesByWord.remove(word);
+                }
+            }
+        }
+        modificationCount++;
+        return isRemoved;
+    }
+
+    /**
+     * Replaces the contents of the index with the names of {@code persons}.
+     */
+    public void setPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        namesByWord.clear();
+        for (Person person : persons) {
+            add(person.getName());
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns the indexed names that contain any of {@code words}, ignoring case.
+     */
+    public Set<Name> getNamesContainingAnyWord(Collection<String> words) {
+        requireNonNull(words);
+        Set<Name> matches = new HashSet<>();
+        for (String word : words) {
+            matches.addAll(namesByWord.getOrDefault(toIndexedWord(word), Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that tests if a person's name contains any of {@code words}, ignoring case.
+     * The predicate resolves its matches from this index, and resolves them again after the index changes.
+     */
+    public Predicate<Person> containsAnyWordPredicate(List<String> words) {
+        requireNonNull(words);
+        return new ContainsAnyWordPredicate(new ArrayList<>(words));
+    }
+
+    private static String toIndexedWord(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Splits {@code fullName} into its lower-cased words.
+     * Names only contain alphanumeric characters and spaces, so spaces are the only separators.
+     */
+    private static List<String> toWords(String fullName) {
+        List<String> words = new ArrayList<>();
+        int start = 0;
+        while (start < fullName.length()) {
+            int end = fullName.indexOf(' ', start);
+            if (end < 0) {
+                end = fullName.length();
+            }
+            if (end > start) {
+                words.add(toIndexedWord(fullName.substring(start, end)));
+            }
+            start = end + 1;
+        }
+        return words;
+    }
+
+    /**
+     * Tests that a {@code Person}'s {@code Name} contains any of the given words, using the enclosing index.
+     */
+    private class ContainsAnyWordPredicate implements Predicate<Person> {
+        private final List<String> words;
+        private Set<Name> matches;
+        private long resolvedModificationCount;
+
+        ContainsAnyWordPredicate(List<String> words) {
+            this.words = words;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (matches == null || resolvedModificationCount != modificationCount) {
+                matches = getNamesContainingAnyWord(words);
+                resolvedModificationCount = modificationCount;
+            }
+            return matches.contains(person.getName());
+        }
+    }
+}
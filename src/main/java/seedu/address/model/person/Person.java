@@ -2,13 +2,12 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -23,7 +22,10 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
+
+    /** Cached hash code, computed on first use as the fields never change. Zero if not computed yet. */
+    private int hashCode;
 
     /**
      * Every field must be present and not null.
@@ -34,7 +36,7 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = TagSet.copyOf(tags);
     }
 
     public Name getName() {
@@ -57,8 +59,8 @@ public class Person {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     /**
@@ -90,6 +92,10 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
+        if (hashCode() != otherPerson.hashCode()) {
+            // cheap for persons compared before, such as those searched by UniquePersonList
+            return false;
+        }
         return name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
@@ -99,8 +105,13 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        int hash = hashCode;
+        if (hash == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hash = Objects.hash(name, phone, email, address, tags);
+            hashCode = hash;
+        }
+        return hash;
     }
 
     @Override
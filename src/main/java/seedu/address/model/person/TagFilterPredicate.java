@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * Tests that a {@code Person}'s tags include all, or any, of the tags given.
+ * Each test compares the bitsets of two {@code TagSet}s, so filtering does not look up tags one by one.
+ * Tag combinations can be built with {@link Predicate#and(Predicate)}, {@link Predicate#or(Predicate)} and
+ * {@link Predicate#negate()}.
+ */
+public class TagFilterPredicate implements Predicate<Person> {
+    private final TagSet tags;
+    private final boolean isAllRequired;
+
+    private TagFilterPredicate(TagSet tags, boolean isAllRequired) {
+        this.tags = tags;
+        this.isAllRequired = isAllRequired;
+    }
+
+    /**
+     * Returns a predicate that tests that a person has every one of {@code tags}.
+     */
+    public static TagFilterPredicate hasAllTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return new TagFilterPredicate(TagSet.copyOf(tags), true);
+    }
+
+    /**
+     * Returns a predicate that tests that a person has at least one of {@code tags}.
+     */
+    public static TagFilterPredicate hasAnyTag(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return new TagFilterPredicate(TagSet.copyOf(tags), false);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return isAllRequired ? person.getTags().containsAllOf(tags) : person.getTags().containsAnyOf(tags);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagFilterPredicate)) {
+            return false;
+        }
+
+        TagFilterPredicate otherTagFilterPredicate = (TagFilterPredicate) other;
+        return tags.equals(otherTagFilterPredicate.tags) && isAllRequired == otherTagFilterPredicate.isAllRequired;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tags", tags)
+                .add("isAllRequired", isAllRequired)
+                .toString();
+    }
+}
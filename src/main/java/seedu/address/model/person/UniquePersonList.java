@@ -3,8 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +22,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity lookups are answered from a secondary index keyed on {@code Name}, which is kept in sync with the
+ * backing list by every mutating operation. The backing list remains the source of order and change notifications.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +34,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> identityIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -46,6 +54,32 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        identityIndex.put(toAdd.getName(), toAdd);
+    }
+
+    /**
+     * Adds all of {@code persons} to the end of the list, as a single change to the backing list.
+     * None of {@code persons} may already exist in the list, or share an identity with another of {@code persons}.
+     *
+     * @throws DuplicatePersonException listing every person in {@code persons} whose identity collides with a person
+     *     in the list or with an earlier person in {@code persons}. The list is left unchanged.
+     */
+    public void addAll(List<Person> persons) {
+        requireAllNonNull(persons);
+        Map<Name, Person> additions = new HashMap<>();
+        List<Person> duplicatePersons = new ArrayList<>();
+        for (Person person : persons) {
+            if (identityIndex.containsKey(person.getName())
+                    || additions.putIfAbsent(person.getName(), person) != null) {
+                duplicatePersons.add(person);
+            }
+        }
+
+        if (!duplicatePersons.isEmpty()) {
+            throw new DuplicatePersonException(duplicatePersons);
+        }
+        internalList.addAll(persons);
+        identityIndex.putAll(additions);
     }
 
     /**
@@ -61,11 +95,28 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
+        setPerson(index, editedPerson);
+    }
+
+    /**
+     * Replaces the person at {@code index} in the list with {@code editedPerson}, without searching the list.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the person that was replaced.
+     * @throws IndexOutOfBoundsException if {@code index} is not within the list.
+     */
+    public Person setPerson(int index, Person editedPerson) {
+        requireNonNull(editedPerson);
+
+        Person target = internalList.get(index);
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
         internalList.set(index, editedPerson);
+        identityIndex.remove(target.getName());
+        identityIndex.put(editedPerson.getName(), editedPerson);
+        return target;
     }
 
     /**
@@ -74,27 +125,76 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        remove(index);
+    }
+
+    /**
+     * Removes the person at {@code index} from the list, without searching the list.
+     *
+     * @return the person that was removed.
+     * @throws IndexOutOfBoundsException if {@code index} is not within the list.
+     */
+    public Person remove(int index) {
+        Person removed = internalList.remove(index);
+        identityIndex.remove(removed.getName());
+        return removed;
+    }
+
+    /**
+     * Removes every person that satisfies {@code predicate} from the list, in a single pass over the list.
+     * The removal is made as a single change to the backing list, which replaces its contents with the persons that
+     * remain. {@code ObservableList#removeAll} would also make a single change, but removes the persons one at a
+     * time, moving every later person each time.
+     *
+     * @return the persons removed, in the order that they appeared in the list.
+     */
+    public List<Person> removeAll(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        List<Person> remainingPersons = new ArrayList<>(internalList.size());
+        List<Person> removedPersons = new ArrayList<>();
+        for (Person person : internalList) {
+            if (predicate.test(person)) {
+                removedPersons.add(person);
+            } else {
+                remainingPersons.add(person);
+            }
+        }
+
+        if (!removedPersons.isEmpty()) {
+            internalList.setAll(remainingPersons);
+            for (Person person : removedPersons) {
+                identityIndex.remove(person.getName());
+            }
+        }
+        return removedPersons;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every person in {@code persons} whose identity collides with an
+     *     earlier person in {@code persons}.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Person> replacementIndex = indexByIdentity(persons);
 
         internalList.setAll(persons);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
     }
 
     /**
@@ -106,7 +206,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -135,16 +235,22 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns an identity index of {@code persons} built in a single pass.
+     *
+     * @throws DuplicatePersonException if {@code persons} does not contain only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Person> indexByIdentity(List<Person> persons) {
+        Map<Name, Person> index = new HashMap<>();
+        List<Person> duplicatePersons = new ArrayList<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getName(), person) != null) {
+                duplicatePersons.add(person);
             }
         }
-        return true;
+
+        if (!duplicatePersons.isEmpty()) {
+            throw new DuplicatePersonException(duplicatePersons);
+        }
+        return index;
     }
 }
@@ -1,11 +1,43 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<Person> duplicatePersons;
+
+    /**
+     * Constructs a {@code DuplicatePersonException} without recording the colliding persons.
+     */
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicatePersons = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that reports the {@code duplicatePersons} which collide with
+     * an earlier person of the same identity.
+     */
+    public DuplicatePersonException(List<Person> duplicatePersons) {
+        super("Operation would result in duplicate persons: " + duplicatePersons.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", ")));
+        this.duplicatePersons = Collections.unmodifiableList(duplicatePersons);
+    }
+
+    /**
+     * Returns the persons that collide with an earlier person of the same identity, in encounter order.
+     * Empty if the colliding persons were not recorded.
+     */
+    public List<Person> getDuplicatePersons() {
+        return duplicatePersons;
     }
 }
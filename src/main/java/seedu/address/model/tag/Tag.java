@@ -3,16 +3,44 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * <p>
+ * Address books typically use a few tag names across many persons, so tags are interned: {@link #of(String)} and
+ * {@link #intern(Tag)} return one canonical {@code Tag} per tag name, which is shared by every person tagged with it.
+ * Each canonical tag is also assigned an integer id, in the order they are interned, which {@link TagSet} uses to
+ * represent sets of tags as bitsets.
+ * <p>
+ * Canonical tags are only held weakly, so a tag that is no longer used, such as one that was only typed in a filter
+ * or one whose persons were all deleted, is garbage collected. Interning its name again creates a new canonical tag
+ * with a new id, which is safe as no remaining {@code TagSet} can hold the old one.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    /** Id of tags that are not canonical. */
+    private static final int NO_ID = -1;
+
+    /** The canonical tag of each tag name that has been interned and is still in use. */
+    private static final Map<String, CanonicalTagReference> canonicalTags = new ConcurrentHashMap<>();
+    /** References to canonical tags that have been garbage collected, whose entries are yet to be removed. */
+    private static final ReferenceQueue<Tag> collectedTags = new ReferenceQueue<>();
+    private static final AtomicInteger nextId = new AtomicInteger();
 
     public final String tagName;
+    private final int id;
 
     /**
      * Constructs a {@code Tag}.
@@ -23,13 +51,86 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.id = NO_ID;
+    }
+
+    /**
+     * Constructs a canonical {@code Tag} with the given {@code id}. {@code tagName} must already be validated.
+     */
+    private Tag(String tagName, int id) {
+        this.tagName = tagName;
+        this.id = id;
+    }
+
+    /**
+     * Returns the canonical {@code Tag} with the given name.
+     * The tag name is only validated the first time it is seen.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        CanonicalTagReference reference = canonicalTags.get(tagName);
+        Tag canonicalTag = reference != null ? reference.get() : null;
+        if (canonicalTag != null) {
+            return canonicalTag;
+        }
+
+        removeCollectedTags();
+        // holds the canonical tag strongly until it is returned, so that it cannot be collected in between
+        Tag[] result = new Tag[1];
+        canonicalTags.compute(tagName, (name, existingReference) -> {
+            result[0] = existingReference != null ? existingReference.get() : null;
+            if (result[0] != null) {
+                return existingReference;
+            }
+            result[0] = newCanonicalTag(name);
+            return new CanonicalTagReference(result[0]);
+        });
+        return result[0];
+    }
+
+    /**
+     * Returns the canonical {@code Tag} equal to {@code tag}.
+     */
+    public static Tag intern(Tag tag) {
+        requireNonNull(tag);
+        return tag.isCanonical() ? tag : of(tag.tagName);
+    }
+
+    private static Tag newCanonicalTag(String tagName) {
+        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        return new Tag(tagName, nextId.getAndIncrement());
+    }
+
+    /**
+     * Removes the entries of canonical tags that have been garbage collected.
+     */
+    private static void removeCollectedTags() {
+        for (Reference<? extends Tag> reference = collectedTags.poll(); reference != null;
+                reference = collectedTags.poll()) {
+            CanonicalTagReference collectedReference = (CanonicalTagReference) reference;
+            canonicalTags.remove(collectedReference.tagName, collectedReference);
+        }
+    }
+
+    boolean isCanonical() {
+        return id != NO_ID;
+    }
+
+    /**
+     * Returns the id of this tag, which must be canonical.
+     */
+    int getId() {
+        assert isCanonical();
+        return id;
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -59,4 +160,16 @@ public class Tag {
         return '[' + tagName + ']';
     }
 
+    /**
+     * A weak reference to a canonical tag, which remembers the tag name it is stored under.
+     */
+    private static class CanonicalTagReference extends WeakReference<Tag> {
+        private final String tagName;
+
+        CanonicalTagReference(Tag canonicalTag) {
+            super(canonicalTag, collectedTags);
+            this.tagName = canonicalTag.tagName;
+        }
+    }
+
 }
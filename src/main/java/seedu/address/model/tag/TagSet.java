@@ -0,0 +1,222 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, stored as an array of canonical tags sorted by tag name.
+ * Takes far less memory than a {@code HashSet} for the few tags a person usually has, and all empty tag sets share
+ * one instance.
+ * <p>
+ * The set is also stored as a bitset of the ids of its tags, so that {@link #containsAllOf(TagSet)},
+ * {@link #containsAnyOf(TagSet)} and {@link #equals(Object)} with another {@code TagSet} compare a few words of bits
+ * instead of looking up each tag. The bitset is sparse: only its non-zero words are stored, together with their
+ * indexes, so a set takes at most one word per tag however large the ids of its tags are.
+ * <p>
+ * Attempts to modify the set throw {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+    private static final TagSet EMPTY = new TagSet(new Tag[0]);
+    private static final Comparator<Tag> TAG_NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+
+    /** Distinct canonical tags, sorted by {@link #TAG_NAME_ORDER}. */
+    private final Tag[] tags;
+    /** Indexes of the non-zero words of the bitset, in ascending order. */
+    private final int[] wordIndexes;
+    /** Bit {@code id % 64} of the word at index {@code id / 64} is set for the id of each tag. No word is zero. */
+    private final long[] words;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+
+        int[] ids = new int[tags.length];
+        for (int i = 0; i < tags.length; i++) {
+            ids[i] = tags[i].getId();
+        }
+        Arrays.sort(ids);
+
+        int[] indexes = new int[ids.length];
+        long[] bits = new long[ids.length];
+        int wordCount = 0;
+        for (int id : ids) {
+            int wordIndex = id / BITS_PER_WORD;
+            if (wordCount == 0 || indexes[wordCount - 1] != wordIndex) {
+                indexes[wordCount++] = wordIndex;
+            }
+            bits[wordCount - 1] |= 1L << (id % BITS_PER_WORD);
+        }
+        wordIndexes = Arrays.copyOf(indexes, wordCount);
+        words = Arrays.copyOf(bits, wordCount);
+    }
+
+    /**
+     * Returns a {@code TagSet} of the tags in {@code tags}, which must not contain null.
+     */
+    public static TagSet copyOf(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sortedTags = new Tag[tags.size()];
+        int size = 0;
+        for (Tag tag : tags) {
+            sortedTags[size++] = Tag.intern(requireNonNull(tag));
+        }
+        Arrays.sort(sortedTags, TAG_NAME_ORDER);
+
+        // removes duplicates, which collections other than sets may hold
+        int distinctSize = 1;
+        for (int i = 1; i < size; i++) {
+            if (sortedTags[i] != sortedTags[distinctSize - 1]) {
+                sortedTags[distinctSize++] = sortedTags[i];
+            }
+        }
+        return new TagSet(distinctSize == size ? sortedTags : Arrays.copyOf(sortedTags, distinctSize));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Tag)) {
+            return false;
+        }
+
+        Tag tag = (Tag) o;
+        if (!tag.isCanonical()) {
+            return Arrays.binarySearch(tags, tag, TAG_NAME_ORDER) >= 0;
+        }
+        int word = Arrays.binarySearch(wordIndexes, tag.getId() / BITS_PER_WORD);
+        return word >= 0 && (words[word] & (1L << (tag.getId() % BITS_PER_WORD))) != 0;
+    }
+
+    /**
+     * Returns true if this set contains every tag in {@code other}.
+     */
+    public boolean containsAllOf(TagSet other) {
+        if (other.words.length > words.length) {
+            return false;
+        }
+        int word = 0;
+        for (int otherWord = 0; otherWord < other.words.length; otherWord++) {
+            while (word < words.length && wordIndexes[word] < other.wordIndexes[otherWord]) {
+                word++;
+            }
+            if (word == words.length || wordIndexes[word] != other.wordIndexes[otherWord]
+                    || (other.words[otherWord] & ~words[word]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if this set contains any tag in {@code other}.
+     */
+    public boolean containsAnyOf(TagSet other) {
+        int word = 0;
+        int otherWord = 0;
+        while (word < words.length && otherWord < other.words.length) {
+            if (wordIndexes[word] < other.wordIndexes[otherWord]) {
+                word++;
+            } else if (wordIndexes[word] > other.wordIndexes[otherWord]) {
+                otherWord++;
+            } else if ((words[word++] & other.words[otherWord++]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of words stored for the bitset of this set.
+     */
+    int getBitsetWordCount() {
+        return words.length;
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet) {
+            TagSet otherTagSet = (TagSet) other;
+            return Arrays.equals(wordIndexes, otherTagSet.wordIndexes) && Arrays.equals(words, otherTagSet.words);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates any number of valid, distinct persons in the style of {@link SampleDataUtil#getSamplePersons()}.
+ * Generators created with the same seed generate the same persons in the same order.
+ * <p>
+ * Names, streets, email domains and tags are drawn from fixed pools with a bias towards the start of each pool, so
+ * that some values are common and others rare, as in a real address book. A name that has already been generated
+ * gets a number appended, as in "Alex Yeoh 2".
+ */
+public class SampleDataGenerator {
+
+    public static final long DEFAULT_SEED = 42;
+
+    public static final String MESSAGE_NEGATIVE_COUNT = "Number of persons to generate cannot be negative";
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling",
+        "Muhammad", "Siti", "Jun Jie", "Priya", "Nur", "Ethan", "Chloe", "Ravi", "Hui Min", "Daniel", "Aisha",
+        "Benjamin", "Mei", "Kumar", "Sarah", "Jia Hao", "Fiona", "George", "Hoon", "Ida", "Elle", "Carl", "Ahmad"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh",
+        "Teo", "Yeoh", "Yu", "Li", "Ibrahim", "Balakrishnan", "Oliveiro", "Abdullah", "Rahman", "Pillai", "Singh",
+        "Kaur", "Meier", "Mueller", "Kunz", "Kurz", "Best", "Meyer", "Fernandez", "Nair"};
+    private static final String[] STREETS = {"Ang Mo Kio Avenue", "Bedok North Road", "Clementi Avenue",
+        "Geylang Street", "Jurong West Street", "Lorong Serangoon Gardens", "Pasir Ris Drive", "Tampines Street",
+        "Toa Payoh Lorong", "Woodlands Drive", "Yishun Ring Road", "Aljunied Street"};
+    private static final String[] EMAIL_DOMAINS = {"example.com", "gmail.com", "u.nus.edu", "yahoo.com.sg",
+        "hotmail.com", "outlook.com"};
+    private static final String[] TAG_NAMES = {"friends", "colleagues", "family", "neighbours", "classmates",
+        "owesMoney", "gym", "client", "cca", "supplier"};
+    private static final int MAX_TAGS = 3;
+
+    private final Random random;
+    /** Number of times each name without its appended number has been generated so far. */
+    private final Map<String, Integer> nameCounts = new HashMap<>();
+
+    public SampleDataGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    public SampleDataGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns the next generated person. Its name differs from that of every person generated before it.
+     */
+    public Person nextPerson() {
+        String baseName = pick(FIRST_NAMES) + " " + pick(LAST_NAMES);
+        int nameCount = nameCounts.merge(baseName, 1, Integer::sum);
+        String name = nameCount == 1 ? baseName : baseName + " " + nameCount;
+
+        return new Person(new Name(name), new Phone(generatePhone()), new Email(generateEmail(name)),
+                new Address(generateAddress()), generateTags());
+    }
+
+    /**
+     * Returns a stream of the next {@code count} generated persons. The persons are generated as the stream is
+     * consumed, so they are never all held in memory at once, unless the consumer does so.
+     */
+    public Stream<Person> generatePersons(int count) {
+        checkArgument(count >= 0, MESSAGE_NEGATIVE_COUNT);
+        return Stream.generate(this::nextPerson).limit(count);
+    }
+
+    /**
+     * Adds the next {@code count} generated persons to {@code addressBook}.
+     * {@code addressBook} must not already contain persons with the generated names.
+     */
+    public void addPersonsTo(AddressBook addressBook, int count) {
+        generatePersons(count).forEach(addressBook::addPerson);
+    }
+
+    /**
+     * Returns an 8-digit phone number, starting with 8 or 9 like mobile numbers, or with 6 like landlines.
+     */
+    private String generatePhone() {
+        int firstDigit = random.nextInt(10) < 2 ? 6 : 8 + random.nextInt(2);
+        return firstDigit + String.format("%07d", random.nextInt(10_000_000));
+    }
+
+    /**
+     * Returns an email address whose local part is derived from {@code name}, such as "alexyeoh" or "alex.yeoh2".
+     */
+    private String generateEmail(String name) {
+        String separator = random.nextBoolean() ? "" : ".";
+        String localPart = name.toLowerCase(Locale.ROOT).replace(" ", separator);
+        return localPart + "@" + pick(EMAIL_DOMAINS);
+    }
+
+    private String generateAddress() {
+        return "Blk " + (1 + random.nextInt(999)) + " " + pick(STREETS) + " " + (1 + random.nextInt(99))
+                + ", #" + String.format("%02d-%02d", 1 + random.nextInt(25), 1 + random.nextInt(150));
+    }
+
+    private Set<Tag> generateTags() {
+        int tagCount = (int) (random.nextDouble() * random.nextDouble() * (MAX_TAGS + 1));
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.of(pick(TAG_NAMES)));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns an element of {@code pool}, more often one near its start.
+     */
+    private String pick(String[] pool) {
+        double biased = random.nextDouble() * random.nextDouble();
+        return pool[(int) (biased * pool.length)];
+    }
+}
@@ -0,0 +1,318 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.Durability;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file plus an append-only journal on the hard disk.
+ * <p>
+ * The snapshot has the same format as the file used by {@link JsonAddressBookStorage}. Every save appends the
+ * additions, edits and deletions made since the previous save to the journal, one json record per line, so the cost of
+ * writing is proportional to the size of the change instead of the size of the address book. The journal is compacted
+ * into a new snapshot once it holds more than a set number of records, or when a change cannot be expressed as journal
+ * records. Loading reads the snapshot and replays the journal on top of it.
+ * <p>
+ * Snapshots are replaced atomically. The first record of the journal holds the checksum of the snapshot it applies
+ * to, so a journal left behind by a crash during compaction is recognised as stale and ignored. A torn last record
+ * left behind by a crash while appending is likewise ignored.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private Path filePath;
+    private final int compactionThreshold;
+    private final boolean isPrettyPrinted;
+    private final Durability durability;
+
+    /** The data file that {@code persistedPersons} was last loaded from or saved to. */
+    private Path persistedFilePath;
+    /** The persons as currently stored in the snapshot and journal at {@code persistedFilePath}. */
+    private List<Person> persistedPersons;
+    private int journalRecordCount;
+    /** False if the journal last replayed was stale or torn, and must not be appended to. */
+    private boolean isJournalIntact;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, true, Durability.FLUSH);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that compacts the journal into a new snapshot once it holds more than
+     * {@code compactionThreshold} records, indents the json of snapshots if {@code isPrettyPrinted} is true, and
+     * forces each write to the device as set by {@code durability}.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold, boolean isPrettyPrinted,
+            Durability durability) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.durability = durability;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that accompanies the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] snapshot = Files.readAllBytes(filePath);
+            List<Person> persons = new ArrayList<>(JsonSerializableAddressBook.toModelType(
+                    new ByteArrayInputStream(snapshot)).getPersonList());
+            int recordCount = replayJournal(getJournalFilePath(filePath), checksumOf(snapshot), persons);
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+
+            // a journal that cannot be appended to is replaced by the next save
+            persistedFilePath = isJournalIntact ? filePath : null;
+            persistedPersons = persons;
+            journalRecordCount = recordCount;
+            return Optional.of(addressBook);
+        } catch (IllegalValueException | DuplicatePersonException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from snapshot or journal of " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalFilePath} to {@code persons}, provided the journal belongs
+     * to the snapshot with the given {@code snapshotChecksum}.
+     *
+     * @return the number of records applied.
+     */
+    private int replayJournal(Path journalFilePath, long snapshotChecksum, List<Person> persons)
+            throws IOException, IllegalValueException {
+        isJournalIntact = false;
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !readRecord(lines.get(0)).isSnapshotWithChecksum(snapshotChecksum)) {
+            logger.info("Ignoring stale journal " + journalFilePath);
+            return 0;
+        }
+
+        isJournalIntact = true;
+        int recordCount = 0;
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = readRecord(lines.get(i));
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last record of journal " + journalFilePath);
+                    isJournalIntact = false;
+                    break;
+                }
+                throw ioe;
+            }
+            record.applyTo(persons);
+            recordCount++;
+        }
+        return recordCount;
+    }
+
+    private static JsonAdaptedJournalRecord readRecord(String line) throws IOException {
+        return JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        if (!filePath.equals(persistedFilePath) || !Files.exists(filePath)) {
+            compact(addressBook, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (!diff(persistedPersons, persons, records)
+                || journalRecordCount + records.size() > compactionThreshold) {
+            compact(addressBook, filePath);
+            return;
+        }
+
+        appendToJournal(records, filePath);
+        for (JsonAdaptedJournalRecord record : records) {
+            applyPersisted(record);
+        }
+        journalRecordCount += records.size();
+    }
+
+    /**
+     * Writes the persons in the snapshot and journal at the file path of this storage to a new snapshot, then deletes
+     * the journal, so that the data file holds every saved change without the journal being replayed, as when it is
+     * read by {@link JsonAddressBookStorage}. Does nothing if there is no journal.
+     * <p>
+     * A crash before the journal is deleted leaves a journal with no records behind, which is harmless.
+     *
+     * @throws DataLoadingException if the snapshot or journal could not be loaded, in which case neither is changed.
+     * @throws IOException if the new snapshot could not be written or the journal could not be deleted.
+     */
+    public void mergeJournal() throws DataLoadingException, IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            return;
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook(filePath);
+        if (addressBook.isPresent()) {
+            compact(addressBook.get(), filePath);
+        }
+        Files.delete(journalFilePath);
+        persistedFilePath = null;
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot at {@code filePath} and starts a new, empty journal for it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        CRC32 snapshotChecksum = new CRC32();
+        FileUtil.writeToFileAtomically(filePath, target -> JsonSerializableAddressBook.writeFromModelType(
+                addressBook, new CheckedOutputStream(target, snapshotChecksum), isPrettyPrinted), durability);
+
+        String header = JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.snapshot(snapshotChecksum.getValue()));
+        byte[] journal = (header + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFileAtomically(getJournalFilePath(filePath), target -> target.write(journal), durability);
+
+        persistedFilePath = filePath;
+        persistedPersons = new ArrayList<>(addressBook.getPersonList());
+        journalRecordCount = 0;
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records, Path filePath) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append(System.lineSeparator());
+        }
+        FileUtil.appendToFile(getJournalFilePath(filePath), lines.toString().getBytes(StandardCharsets.UTF_8),
+                durability);
+    }
+
+    private void applyPersisted(JsonAdaptedJournalRecord record) throws IOException {
+        try {
+            record.applyTo(persistedPersons);
+        } catch (IllegalValueException ive) {
+            throw new IOException(ive);
+        }
+    }
+
+    /**
+     * Adds to {@code records} the journal records that turn {@code oldPersons} into {@code newPersons}.
+     * Only the region between the longest common prefix and the longest common suffix of the two lists is
+     * considered, which covers the changes made by a single add, edit or delete.
+     *
+     * @return false if the change cannot be expressed as journal records, in which case a snapshot must be written.
+     */
+    private static boolean diff(List<Person> oldPersons, List<Person> newPersons,
+            List<JsonAdaptedJournalRecord> records) {
+        int oldSize = oldPersons.size();
+        int newSize = newPersons.size();
+
+        int prefix = 0;
+        while (prefix < oldSize && prefix < newSize && oldPersons.get(prefix).equals(newPersons.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < oldSize - prefix && suffix < newSize - prefix
+                && oldPersons.get(oldSize - 1 - suffix).equals(newPersons.get(newSize - 1 - suffix))) {
+            suffix++;
+        }
+
+        int oldChanged = oldSize - prefix - suffix;
+        int newChanged = newSize - prefix - suffix;
+        if (oldChanged == newChanged) {
+            for (int i = prefix; i < prefix + newChanged; i++) {
+                records.add(JsonAdaptedJournalRecord.set(i, newPersons.get(i)));
+            }
+        } else if (newChanged == 0) {
+            for (int i = 0; i < oldChanged; i++) {
+                records.add(JsonAdaptedJournalRecord.delete(prefix));
+            }
+        } else if (oldChanged == 0 && suffix == 0) {
+            for (int i = prefix; i < newSize; i++) {
+                records.add(JsonAdaptedJournalRecord.add(newPersons.get(i)));
+            }
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+}
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single record in the journal of a {@link JournalAddressBookStorage}.
+ * A record either identifies the snapshot that the journal applies to, or describes one change to the person list.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String OPERATION_SNAPSHOT = "snapshot";
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_SET = "set";
+    public static final String OPERATION_DELETE = "delete";
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    private final String operation;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final Long checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") String operation,
+            @JsonProperty("index") Integer index, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("checksum") Long checksum) {
+        this.operation = operation;
+        this.index = index;
+        this.person = person;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns a record identifying the snapshot with the given {@code checksum}.
+     */
+    public static JsonAdaptedJournalRecord snapshot(long checksum) {
+        return new JsonAdaptedJournalRecord(OPERATION_SNAPSHOT, null, null, checksum);
+    }
+
+    /**
+     * Returns a record that appends {@code person} to the end of the person list.
+     */
+    public static JsonAdaptedJournalRecord add(Person person) {
+        return new JsonAdaptedJournalRecord(OPERATION_ADD, null, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns a record that replaces the person at {@code index} of the person list with {@code person}.
+     */
+    public static JsonAdaptedJournalRecord set(int index, Person person) {
+        return new JsonAdaptedJournalRecord(OPERATION_SET, index, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns a record that removes the person at {@code index} of the person list.
+     */
+    public static JsonAdaptedJournalRecord delete(int index) {
+        return new JsonAdaptedJournalRecord(OPERATION_DELETE, index, null, null);
+    }
+
+    /**
+     * Returns true if this record identifies a snapshot with the given {@code checksum}.
+     */
+    public boolean isSnapshotWithChecksum(long checksum) {
+        return OPERATION_SNAPSHOT.equals(operation) && this.checksum != null && this.checksum == checksum;
+    }
+
+    /**
+     * Applies the change described by this record to {@code persons}.
+     *
+     * @throws IllegalValueException if the record is malformed or does not fit {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (OPERATION_ADD.equals(operation) && person != null) {
+            persons.add(person.toModelType());
+        } else if (OPERATION_SET.equals(operation) && person != null && isIndexWithin(persons)) {
+            persons.set(index, person.toModelType());
+        } else if (OPERATION_DELETE.equals(operation) && isIndexWithin(persons)) {
+            persons.remove((int) index);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, operation));
+        }
+    }
+
+    private boolean isIndexWithin(List<Person> persons) {
+        return index != null && index >= 0 && index < persons.size();
+    }
+
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -70,40 +71,31 @@ class JsonAdaptedPerson {
             personTags.add(tag.toModelType());
         }
 
-        if (name == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
-        }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
-
-        if (phone == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
-        }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+        final Name modelName = toModelField(name, Name.class, Name::new, Name.MESSAGE_CONSTRAINTS);
+        final Phone modelPhone = toModelField(phone, Phone.class, Phone::new, Phone.MESSAGE_CONSTRAINTS);
+        final Email modelEmail = toModelField(email, Email.class, Email::new, Email.MESSAGE_CONSTRAINTS);
+        final Address modelAddress = toModelField(address, Address.class, Address::new, Address.MESSAGE_CONSTRAINTS);
 
-        if (email == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
-        }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Email modelEmail = new Email(email);
+        final Set<Tag> modelTags = new HashSet<>(personTags);
+        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+    }
 
-        if (address == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
+    /**
+     * Converts {@code value} into a field of the model's {@code Person} with {@code constructor}.
+     * The value is validated only once, by the constructor, instead of being checked beforehand as well.
+     *
+     * @throws IllegalValueException if {@code value} is missing or violates the constraints of {@code fieldClass}.
+     */
+    private static <T> T toModelField(String value, Class<T> fieldClass, Function<String, T> constructor,
+            String constraints) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldClass.getSimpleName()));
         }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(constraints);
         }
-        final Address modelAddress = new Address(address);
-
-        final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
     }
 
 }
@@ -2,7 +2,10 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,8 +14,9 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.FileUtil.Durability;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -22,9 +26,21 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final Durability durability;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true, Durability.FLUSH);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that indents the saved json if {@code isPrettyPrinted} is true,
+     * or writes it without any whitespace otherwise, and forces each save to the device as set by {@code durability}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, Durability durability) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.durability = durability;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,17 +61,18 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream source = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(JsonSerializableAddressBook.toModelType(source));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         }
     }
 
@@ -73,8 +90,23 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeToFileAtomically(filePath, target ->
+                JsonSerializableAddressBook.writeFromModelType(addressBook, target, isPrettyPrinted), durability);
+    }
+
+    /**
+     * Saves {@code persons} as an address book at {@code filePath}, writing each person as it is iterated.
+     * Unlike {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, the persons need not all be held in memory at once.
+     *
+     * @param persons the persons to save, which must not contain duplicate persons. Cannot be null.
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void savePersons(Iterable<Person> persons, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, target ->
+                JsonSerializableAddressBook.writeFromModelType(persons, target, isPrettyPrinted), durability);
     }
 
 }
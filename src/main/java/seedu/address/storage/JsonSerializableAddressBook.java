@@ -1,5 +1,8 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -9,6 +12,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -48,13 +52,55 @@ class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            addToModelType(addressBook, jsonAdaptedPerson);
         }
         return addressBook;
     }
 
+    /**
+     * Reads an address book in JSON format from {@code source} straight into the model's {@code AddressBook} object.
+     * Each person is converted as soon as it is read, so neither the whole file nor all of its
+     * {@code JsonAdaptedPerson}s are held in memory at once.
+     *
+     * @throws IOException if {@code source} could not be read or is not in the expected JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook toModelType(InputStream source) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        JsonUtil.readJsonArrayElements(source, "persons", JsonAdaptedPerson.class, jsonAdaptedPerson ->
+                addToModelType(addressBook, jsonAdaptedPerson));
+        return addressBook;
+    }
+
+    /**
+     * Writes {@code source} in JSON format to {@code target}, converting one person at a time, so that neither the
+     * JSON nor the {@code JsonAdaptedPerson}s of the whole address book are held in memory at once.
+     *
+     * @param isPrettyPrinted whether to indent the JSON for readability.
+     * @throws IOException if there was an error writing to {@code target}.
+     */
+    public static void writeFromModelType(ReadOnlyAddressBook source, OutputStream target, boolean isPrettyPrinted)
+            throws IOException {
+        writeFromModelType(source.getPersonList(), target, isPrettyPrinted);
+    }
+
+    /**
+     * Similar to {@link #writeFromModelType(ReadOnlyAddressBook, OutputStream, boolean)}, but writes the persons
+     * of {@code source} as they are iterated, without requiring them to be collected into an address book first.
+     * {@code source} must not contain duplicate persons.
+     */
+    public static void writeFromModelType(Iterable<Person> source, OutputStream target, boolean isPrettyPrinted)
+            throws IOException {
+        JsonUtil.writeJsonArrayElements(target, "persons", source, JsonAdaptedPerson::new, isPrettyPrinted);
+    }
+
+    private static void addToModelType(AddressBook addressBook, JsonAdaptedPerson jsonAdaptedPerson)
+            throws IllegalValueException {
+        Person person = jsonAdaptedPerson.toModelType();
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
 }
@@ -0,0 +1,227 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads persons to be imported into the address book from a CSV or JSON file.
+ * <p>
+ * A JSON file has the same format as the address book data file. A CSV file starts with a header row naming its
+ * columns, which are {@code name}, {@code phone}, {@code email}, {@code address} and optionally {@code tags}, in any
+ * order. Each following row holds one person, with its tags separated by spaces. Fields containing commas or quotes
+ * must be enclosed in double quotes, with any quote inside them doubled, as in {@code "Blk 30, ""The Ridge"""}.
+ * <p>
+ * The file is read sequentially, after which its records are validated and converted to persons in parallel.
+ */
+public class PersonImporter {
+
+    public static final String MESSAGE_UNSUPPORTED_FILE_TYPE = "Only .csv and .json files can be imported";
+    public static final String MESSAGE_INVALID_RECORD = "Invalid %1$s: %2$s";
+    public static final String MESSAGE_MISSING_HEADER = "The CSV file has no header row";
+    public static final String MESSAGE_UNKNOWN_COLUMN = "Unknown CSV column: %1$s";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "Duplicate CSV column: %1$s";
+    public static final String MESSAGE_MISSING_COLUMN = "Missing CSV column: %1$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Line %1$d has %2$d fields instead of %3$d";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Line %1$d has a field with an unterminated quote";
+
+    private static final String[] CSV_COLUMNS = {"name", "phone", "email", "address", "tags"};
+
+    private static final int NAME_COLUMN = 0;
+    private static final int PHONE_COLUMN = 1;
+    private static final int EMAIL_COLUMN = 2;
+    private static final int ADDRESS_COLUMN = 3;
+    private static final int TAGS_COLUMN = 4;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    /**
+     * Returns the persons in the CSV or JSON file at {@code filePath}, in the order that they appear in the file.
+     * The type of the file is determined by its extension.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the file is not of a supported type, is malformed, or holds an invalid person.
+     */
+    public static List<Person> readPersons(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString().toLowerCase(Locale.ROOT);
+
+        if (fileName.endsWith(".csv")) {
+            List<JsonAdaptedPerson> records = new ArrayList<>();
+            int[] lineNumbers = readCsvRecords(filePath, records);
+            return toModelType(records, i -> "line " + lineNumbers[i]);
+        } else if (fileName.endsWith(".json")) {
+            List<JsonAdaptedPerson> records = readJsonRecords(filePath);
+            return toModelType(records, i -> "person " + (i + 1));
+        } else {
+            throw new IllegalValueException(MESSAGE_UNSUPPORTED_FILE_TYPE);
+        }
+    }
+
+    /**
+     * Converts {@code records} into the model's {@code Person} objects in parallel, keeping their order.
+     * If several records are invalid, the first of them is reported, described by {@code describeRecord}.
+     */
+    private static List<Person> toModelType(List<JsonAdaptedPerson> records, IntFunction<String> describeRecord)
+            throws IllegalValueException {
+        Person[] persons = new Person[records.size()];
+        IllegalValueException[] errors = new IllegalValueException[records.size()];
+        IntStream.range(0, records.size()).parallel().forEach(i -> {
+            try {
+                persons[i] = records.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
+            }
+        });
+
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] != null) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_INVALID_RECORD, describeRecord.apply(i), errors[i].getMessage()));
+            }
+        }
+        return Arrays.asList(persons);
+    }
+
+    private static List<JsonAdaptedPerson> readJsonRecords(Path filePath) throws IOException, IllegalValueException {
+        List<JsonAdaptedPerson> records = new ArrayList<>();
+        try (InputStream source = Files.newInputStream(filePath)) {
+            JsonUtil.readJsonArrayElements(source, "persons", JsonAdaptedPerson.class, records::add);
+        }
+        return records;
+    }
+
+    /**
+     * Reads the rows of the CSV file at {@code filePath} into {@code records}. Blank lines are skipped.
+     *
+     * @return the line number of each record, in the order that they were added to {@code records}.
+     */
+    private static int[] readCsvRecords(Path filePath, List<JsonAdaptedPerson> records)
+            throws IOException, IllegalValueException {
+        IntStream.Builder lineNumbers = IntStream.builder();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int[] columnOfField = null;
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+                    line = line.substring(1);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                List<String> fields = splitCsvLine(line, lineNumber);
+                if (columnOfField == null) {
+                    columnOfField = parseCsvHeader(fields);
+                    continue;
+                }
+                if (fields.size() != columnOfField.length) {
+                    throw new IllegalValueException(String.format(MESSAGE_WRONG_FIELD_COUNT,
+                            lineNumber, fields.size(), columnOfField.length));
+                }
+                records.add(toJsonAdaptedPerson(fields, columnOfField));
+                lineNumbers.add(lineNumber);
+            }
+
+            if (columnOfField == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_HEADER);
+            }
+        }
+        return lineNumbers.build().toArray();
+    }
+
+    /**
+     * Returns the index in {@link #CSV_COLUMNS} of the column named by each field of the header row.
+     */
+    private static int[] parseCsvHeader(List<String> header) throws IllegalValueException {
+        int[] columnOfField = new int[header.size()];
+        boolean[] isColumnPresent = new boolean[CSV_COLUMNS.length];
+        for (int field = 0; field < header.size(); field++) {
+            String columnName = header.get(field).toLowerCase(Locale.ROOT);
+            int column = Arrays.asList(CSV_COLUMNS).indexOf(columnName);
+            if (column < 0) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_COLUMN, header.get(field)));
+            }
+            if (isColumnPresent[column]) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_COLUMN, header.get(field)));
+            }
+            isColumnPresent[column] = true;
+            columnOfField[field] = column;
+        }
+
+        for (int column = 0; column < CSV_COLUMNS.length; column++) {
+            if (!isColumnPresent[column] && column != TAGS_COLUMN) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, CSV_COLUMNS[column]));
+            }
+        }
+        return columnOfField;
+    }
+
+    private static JsonAdaptedPerson toJsonAdaptedPerson(List<String> fields, int[] columnOfField) {
+        String[] values = new String[CSV_COLUMNS.length];
+        for (int field = 0; field < fields.size(); field++) {
+            values[columnOfField[field]] = fields.get(field);
+        }
+
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        if (values[TAGS_COLUMN] != null && !values[TAGS_COLUMN].isEmpty()) {
+            for (String tagName : values[TAGS_COLUMN].split("\\s+")) {
+                tags.add(new JsonAdaptedTag(tagName));
+            }
+        }
+        return new JsonAdaptedPerson(values[NAME_COLUMN], values[PHONE_COLUMN], values[EMAIL_COLUMN],
+                values[ADDRESS_COLUMN], tags);
+    }
+
+    /**
+     * Splits a line of CSV into its fields, removing the quotes around quoted fields and the whitespace around
+     * every field.
+     */
+    private static List<String> splitCsvLine(String line, int lineNumber) throws IllegalValueException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isInQuotes = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isInQuotes) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isInQuotes = false;
+                }
+            } else if (c == '"') {
+                isInQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (isInQuotes) {
+            throw new IllegalValueException(String.format(MESSAGE_UNTERMINATED_QUOTE, lineNumber));
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+}
@@ -2,12 +2,16 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * API of the Storage component
@@ -29,4 +33,25 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Sets the handler to be notified of errors from address book saves that are still in progress when
+     * {@link #saveAddressBook(ReadOnlyAddressBook)} returns. The handler may be called from a background thread.
+     */
+    void setAddressBookSaveErrorHandler(Consumer<IOException> errorHandler);
+
+    /**
+     * Waits for all address book saves that are still in progress to complete.
+     *
+     * @throws IOException the error of the last address book save, if it failed and no save has succeeded since.
+     */
+    void flushAddressBookSaves() throws IOException;
+
+    /**
+     * Returns the persons in the CSV or JSON file at {@code filePath}, as read by {@link PersonImporter}.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the file is not of a supported type, is malformed, or holds an invalid person.
+     */
+    List<Person> readPersons(Path filePath) throws IOException, IllegalValueException;
+
 }
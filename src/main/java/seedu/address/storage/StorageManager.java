@@ -2,17 +2,32 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * <p>
+ * In asynchronous mode, address book saves are handed to a single background writer and
+ * {@link #saveAddressBook(ReadOnlyAddressBook)} returns immediately. Saves requested while an earlier one is still
+ * waiting to be written are coalesced, so only the latest state is written.
  */
 public class StorageManager implements Storage {
 
@@ -20,12 +35,34 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService saveExecutor;
+    private final AtomicReference<PendingSave> pendingSave = new AtomicReference<>();
+    private volatile Consumer<IOException> saveErrorHandler = unused -> { };
+    /** Error of the last background save, or null if it succeeded. */
+    private volatile IOException lastSaveError;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that saves the address book in the background if {@code isSaveAsync} is true.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            boolean isSaveAsync) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveExecutor = isSaveAsync ? Executors.newSingleThreadExecutor(StorageManager::createSaveThread) : null;
+    }
+
+    private static Thread createSaveThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "AddressBook saver");
+        thread.setDaemon(true);
+        return thread;
     }
 
     // ================ UserPrefs methods ==============================
@@ -71,8 +108,98 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (saveExecutor == null) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        // a task is already queued if a save was pending, and that task will write this newer save instead
+        if (pendingSave.getAndSet(new PendingSave(new AddressBookSnapshot(addressBook), filePath)) == null) {
+            saveExecutor.execute(this::writePendingSave);
+        }
+    }
+
+    private void writePendingSave() {
+        PendingSave save = pendingSave.getAndSet(null);
+        if (save == null) {
+            return;
+        }
+
+        try {
+            logger.fine("Attempting to write to data file: " + save.filePath);
+            addressBookStorage.saveAddressBook(save.addressBook, save.filePath);
+            lastSaveError = null;
+        } catch (IOException | RuntimeException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+            IOException saveError = e instanceof IOException ? (IOException) e : new IOException(e);
+            lastSaveError = saveError;
+            saveErrorHandler.accept(saveError);
+        }
+    }
+
+    @Override
+    public void setAddressBookSaveErrorHandler(Consumer<IOException> errorHandler) {
+        saveErrorHandler = errorHandler;
+    }
+
+    @Override
+    public void flushAddressBookSaves() throws IOException {
+        if (saveExecutor == null) {
+            return;
+        }
+
+        try {
+            // the executor runs tasks in order, so every earlier save has been written once this one has run
+            saveExecutor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+
+        IOException saveError = lastSaveError;
+        if (saveError != null) {
+            throw saveError;
+        }
+    }
+
+    // ================ Import methods ==============================
+
+    @Override
+    public List<Person> readPersons(Path filePath) throws IOException, IllegalValueException {
+        logger.fine("Attempting to read persons to import from file: " + filePath);
+        return PersonImporter.readPersons(filePath);
+    }
+
+    /**
+     * An address book save waiting for the background writer.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook addressBook;
+        private final Path filePath;
+
+        PendingSave(ReadOnlyAddressBook addressBook, Path filePath) {
+            this.addressBook = addressBook;
+            this.filePath = filePath;
+        }
+    }
+
+    /**
+     * A copy of the persons of an address book, which the background writer can read while the original changes.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        AddressBookSnapshot(ReadOnlyAddressBook source) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getPersonList()));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
     }
 
 }
@@ -1,16 +1,21 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import static java.util.Objects.requireNonNull;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card can be rebound to display a different person, so that a list cell loads the FXML of its card only once.
  */
 public class PersonCard extends UiPart<Region> {
 
@@ -24,7 +29,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -46,14 +51,52 @@ public class PersonCard extends UiPart<Region> {
      */
     public PersonCard(Person person, int displayedIndex) {
         super(FXML);
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Creates a {@code PersonCard} that displays no person until {@link #setPerson(Person, int)} is called.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays the given {@code Person} and index on this card, in place of the person displayed before.
+     * The labels of the previous person's tags are reused for the tags of the given person.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        requireNonNull(person);
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setTags(person.getTags());
+    }
+
+    /**
+     * Displays {@code personTags}, which are iterated in order of tag name, reusing the existing tag labels.
+     */
+    private void setTags(TagSet personTags) {
+        ObservableList<Node> tagLabels = tags.getChildren();
+        int labelCount = 0;
+        for (Tag tag : personTags) {
+            if (labelCount < tagLabels.size()) {
+                Label tagLabel = (Label) tagLabels.get(labelCount);
+                tagLabel.setText(tag.tagName);
+            } else {
+                tagLabels.add(new Label(tag.tagName));
+            }
+            labelCount++;
+        }
+        if (labelCount < tagLabels.size()) {
+            tagLabels.remove(labelCount, tagLabels.size());
+        }
     }
 }
@@ -31,8 +31,12 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell creates its card once, when it first displays a person, and rebinds that card to every person it
+     * displays after, so scrolling and filtering do not load the card's FXML again.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +45,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard();
+                }
+                personCard.setPerson(person, getIndex() + 1);
+                setGraphic(personCard.getRoot());
             }
         }
     }
@@ -2,8 +2,12 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
@@ -11,12 +15,18 @@ import seedu.address.MainApp;
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
  * It contains a scene graph with a root node of type {@code T}.
+ * <p>
+ * The contents of each FXML file are read once and kept in memory, so UiParts that are constructed many times, such
+ * as {@link PersonCard}, only parse their FXML document again instead of also reading it from the resources.
  */
 public abstract class UiPart<T> {
 
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    /** Contents of the FXML files loaded so far, keyed by the external form of their URLs. */
+    private static final Map<String, byte[]> fxmlTemplates = new ConcurrentHashMap<>();
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -69,12 +79,28 @@ public abstract class UiPart<T> {
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
         try {
-            fxmlLoader.load();
+            fxmlLoader.load(new ByteArrayInputStream(getFxmlTemplate(location)));
         } catch (IOException e) {
             throw new AssertionError(e);
         }
     }
 
+    /**
+     * Returns the contents of the FXML document at {@code location}, reading them only if they have not been read
+     * before. Documents that could not be read are not cached.
+     */
+    private static byte[] getFxmlTemplate(URL location) throws IOException {
+        String key = location.toExternalForm();
+        byte[] template = fxmlTemplates.get(key);
+        if (template == null) {
+            try (InputStream source = location.openStream()) {
+                template = source.readAllBytes();
+            }
+            fxmlTemplates.put(key, template);
+        }
+        return template;
+    }
+
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
@@ -39,10 +39,34 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptPath_success() {
+        parametersStub.namedParameters.put("script", "commands.txt");
+        expected.setScriptPath(Paths.get("commands.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_success() {
+        parametersStub.namedParameters.put("script", "a\0");
+        expected.setScriptPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_commandLineArguments_namedArgumentsParsed() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(Paths.get("commands=1.txt"));
+        assertEquals(expected, AppParameters.parse(new String[] {
+            "--config=config.json", "unnamed", "--=empty name", "--script=commands=1.txt"}));
+        assertEquals(new AppParameters(), AppParameters.parse(new String[] {"-script=commands.txt", "--script"}));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", scriptPath=" + appParameters.getScriptPath() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +90,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("scriptPath"));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
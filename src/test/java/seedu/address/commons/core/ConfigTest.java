@@ -12,7 +12,11 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", journalStorageEnabled=" + config.isJournalStorageEnabled()
+                + ", addressBookPrettyPrinted=" + config.isAddressBookPrettyPrinted()
+                + ", saveDurability=" + config.getSaveDurability()
+                + ", asyncSaveEnabled=" + config.isAsyncSaveEnabled() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -0,0 +1,60 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexRangeTest {
+
+    private static final Index FIRST_INDEX = Index.fromOneBased(1);
+    private static final Index FIFTH_INDEX = Index.fromOneBased(5);
+
+    @Test
+    public void constructor_nullIndex_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new IndexRange(null, FIFTH_INDEX));
+        assertThrows(NullPointerException.class, () -> new IndexRange(FIRST_INDEX, null));
+    }
+
+    @Test
+    public void constructor_startAfterEnd_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new IndexRange(FIFTH_INDEX, FIRST_INDEX));
+    }
+
+    @Test
+    public void of_singleIndex_startsAndEndsAtIndex() {
+        IndexRange indexRange = IndexRange.of(FIFTH_INDEX);
+        assertEquals(FIFTH_INDEX, indexRange.getStart());
+        assertEquals(FIFTH_INDEX, indexRange.getEnd());
+    }
+
+    @Test
+    public void equals() {
+        final IndexRange indexRange = new IndexRange(FIRST_INDEX, FIFTH_INDEX);
+
+        // same values -> returns true
+        assertTrue(indexRange.equals(new IndexRange(Index.fromZeroBased(0), Index.fromZeroBased(4))));
+
+        // same object -> returns true
+        assertTrue(indexRange.equals(indexRange));
+
+        // null -> returns false
+        assertFalse(indexRange.equals(null));
+
+        // different types -> returns false
+        assertFalse(indexRange.equals(FIRST_INDEX));
+
+        // different start or end -> returns false
+        assertFalse(indexRange.equals(new IndexRange(Index.fromOneBased(2), FIFTH_INDEX)));
+        assertFalse(indexRange.equals(IndexRange.of(FIRST_INDEX)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        IndexRange indexRange = new IndexRange(FIRST_INDEX, FIFTH_INDEX);
+        String expected = IndexRange.class.getCanonicalName() + "{start=" + FIRST_INDEX + ", end=" + FIFTH_INDEX + "}";
+        assertEquals(expected, indexRange.toString());
+    }
+}
@@ -1,13 +1,25 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil.Durability;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +32,39 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_allDurabilities_replacesFile() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+        for (Durability durability : Durability.values()) {
+            String content = "content written with " + durability;
+            FileUtil.writeToFileAtomically(file, out -> {
+                out.write(content.getBytes(StandardCharsets.UTF_8));
+                out.close();
+            }, durability);
+            assertEquals(content, FileUtil.readFromFile(file));
+        }
+        assertEquals(1, Files.list(file.getParent()).count());
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_fileUntouched() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "original");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("dummy IO exception");
+        }, Durability.FLUSH));
+        assertEquals("original", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void appendToFile_existingFile_contentAppended() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.appendToFile(file, "first".getBytes(StandardCharsets.UTF_8), Durability.NONE);
+        FileUtil.appendToFile(file, "second".getBytes(StandardCharsets.UTF_8), Durability.FSYNC);
+        assertEquals("firstsecond", FileUtil.readFromFile(file));
+    }
+
 }
@@ -1,12 +1,21 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +48,45 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayElements_otherFieldsPresent_readsOnlyArrayElements() throws Exception {
+        String json = "{ \"before\" : { \"values\" : [ 9 ] }, \"values\" : [ 1, 2, 3 ], \"after\" : [ 4 ] }";
+        List<Integer> values = new ArrayList<>();
+        JsonUtil.readJsonArrayElements(toStream(json), "values", Integer.class, values::add);
+        assertEquals(Arrays.asList(1, 2, 3), values);
+    }
+
+    @Test
+    public void readJsonArrayElements_missingOrNullArray_readsNothing() throws Exception {
+        List<Integer> values = new ArrayList<>();
+        JsonUtil.readJsonArrayElements(toStream("{ \"other\" : 1 }"), "values", Integer.class, values::add);
+        JsonUtil.readJsonArrayElements(toStream("{ \"values\" : null }"), "values", Integer.class, values::add);
+        assertEquals(Collections.emptyList(), values);
+    }
+
+    @Test
+    public void readJsonArrayElements_invalidJson_throwsIoException() {
+        List<Integer> values = new ArrayList<>();
+        assertThrows(IOException.class, () -> JsonUtil.readJsonArrayElements(
+                toStream("not json format!"), "values", Integer.class, values::add));
+        assertThrows(IOException.class, () -> JsonUtil.readJsonArrayElements(
+                toStream("{ \"values\" : 1 }"), "values", Integer.class, values::add));
+        assertThrows(IOException.class, () -> JsonUtil.readJsonArrayElements(
+                toStream("{ \"values\" : [ 1, 2"), "values", Integer.class, values::add));
+    }
+
+    @Test
+    public void readJsonArrayElements_elementRejected_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonUtil.readJsonArrayElements(
+                toStream("{ \"values\" : [ 1 ] }"), "values", Integer.class, value -> {
+                    throw new IllegalValueException("rejected");
+                }));
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
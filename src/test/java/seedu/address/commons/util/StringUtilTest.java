@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -121,6 +122,25 @@ public class StringUtilTest {
 
         // Matches multiple words in sentence
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
+
+        // Words separated by whitespace other than spaces
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbbb\nccc", "BBB"));
+        assertFalse(StringUtil.containsWordIgnoreCase("aaa\tbbb", "aa"));
+    }
+
+    //---------------- Tests for prepareWord --------------------------------------
+
+    @Test
+    public void prepareWord_invalidWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> StringUtil.prepareWord(" \t "));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.prepareWord("aaa\tBBB"));
+    }
+
+    @Test
+    public void prepareWord_validWord_trimmed() {
+        assertEquals("aBc", StringUtil.prepareWord("  aBc\n"));
     }
 
     //---------------- Tests for getDetails --------------------------------------
@@ -1,18 +1,34 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.MalformedInputException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -70,6 +86,21 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSaveAddressBook() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_modifyingCommand_savesAddressBook() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(model.hasUnsavedAddressBookChanges());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -82,6 +113,128 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_asyncSaveFails_errorMessageReportedAndSaveRetried() throws Exception {
+        Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
+        List<ReadOnlyAddressBook> saveAttempts = new CopyOnWriteArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveAttempts.add(addressBook);
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(prefPath), true);
+        logic = new LogicManager(model, storage);
+        List<String> errorMessages = new CopyOnWriteArrayList<>();
+        logic.setSaveErrorHandler(errorMessages::add);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertThrows(IOException.class, () -> storage.flushAddressBookSaves());
+        assertEquals(Collections.singletonList(String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())), errorMessages);
+
+        // the failed save is retried by the next command, even if that command does not modify the address book
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(IOException.class, () -> storage.flushAddressBookSaves());
+        assertEquals(2, saveAttempts.size());
+    }
+
+    @Test
+    public void executeBatch_someCommandsFail_failuresReportedAndOtherCommandsExecuted() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        String invalidCommand = "uicfhmowqewca";
+        String deleteCommand = "delete 9";
+        BatchResult batchResult = logic.executeBatch(Stream.of(
+                invalidCommand, "", addCommand, "  ", deleteCommand, ListCommand.COMMAND_WORD));
+
+        assertEquals(4, batchResult.getCommandCount());
+        assertEquals(Arrays.asList(
+                String.format(BatchResult.MESSAGE_COMMAND_FAILED, 1, invalidCommand, MESSAGE_UNKNOWN_COMMAND),
+                String.format(BatchResult.MESSAGE_COMMAND_FAILED, 5, deleteCommand,
+                        MESSAGE_INVALID_PERSON_DISPLAYED_INDEX)),
+                batchResult.getFailures());
+
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).withTags().build());
+        assertEquals(expectedModel, model);
+        assertFalse(model.hasUnsavedAddressBookChanges());
+    }
+
+    @Test
+    public void executeBatch_modifyingCommands_savesAddressBookOnce() throws Exception {
+        Path prefPath = temporaryFolder.resolve("userPrefs.json");
+        List<ReadOnlyAddressBook> saves = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saves.add(addressBook);
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, new JsonUserPrefsStorage(prefPath)));
+
+        String addAmyCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        String addBobCommand = AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB
+                + EMAIL_DESC_BOB + ADDRESS_DESC_BOB;
+        BatchResult batchResult = logic.executeBatch(Stream.of(addAmyCommand, addBobCommand));
+
+        assertEquals(2, batchResult.getCommandCount());
+        assertFalse(batchResult.hasFailures());
+        assertEquals(1, saves.size());
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void executeBatch_streamThrowsPartway_failureReportedAndEarlierChangesSaved() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        UncheckedIOException readError = new UncheckedIOException(new MalformedInputException(1));
+        Stream<String> commandTexts = Stream.of(addCommand, ListCommand.COMMAND_WORD, "unreadable", addCommand)
+                .map(commandText -> {
+                    if (commandText.equals("unreadable")) {
+                        throw readError;
+                    }
+                    return commandText;
+                });
+        BatchResult batchResult = logic.executeBatch(commandTexts);
+
+        assertEquals(2, batchResult.getCommandCount());
+        assertEquals(Collections.singletonList(String.format(BatchResult.MESSAGE_READ_FAILED, 2,
+                readError.getMessage())), batchResult.getFailures());
+        assertTrue(batchResult.hasFailures());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(model.hasUnsavedAddressBookChanges());
+    }
+
+    @Test
+    public void executeBatch_storageThrowsIoException_saveErrorReported() {
+        Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, new JsonUserPrefsStorage(prefPath)));
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        String invalidCommand = "uicfhmowqewca";
+        BatchResult batchResult = logic.executeBatch(Stream.of(addCommand, invalidCommand));
+
+        assertEquals(Optional.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                batchResult.getSaveError());
+        assertEquals(Collections.singletonList(String.format(BatchResult.MESSAGE_COMMAND_FAILED, 2, invalidCommand,
+                MESSAGE_UNKNOWN_COMMAND)), batchResult.getFailures());
+        assertTrue(batchResult.hasFailures());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
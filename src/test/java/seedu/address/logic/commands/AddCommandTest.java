@@ -10,12 +10,14 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
@@ -133,6 +135,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookGeneration() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasUnsavedAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markAddressBookSaved(long generation) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -148,6 +165,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> deletePersons(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteFilteredPerson(Index index) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setFilteredPerson(Index index, Person editedPerson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -157,6 +194,11 @@ public class AddCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public Predicate<Person> getNameKeywordsPredicate(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -0,0 +1,156 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.TagFilterPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code BulkDeleteCommand}.
+ */
+public class BulkDeleteCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validRangesUnfilteredList_success() {
+        // overlapping ranges delete each person once
+        List<IndexRange> ranges = Arrays.asList(new IndexRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON),
+                IndexRange.of(INDEX_SECOND_PERSON), IndexRange.of(Index.fromOneBased(6)));
+        BulkDeleteCommand bulkDeleteCommand = new BulkDeleteCommand(ranges);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        Arrays.asList(ALICE, BENSON, CARL, FIONA).forEach(expectedModel::deletePerson);
+
+        assertCommandSuccess(bulkDeleteCommand, model,
+                String.format(BulkDeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 4), expectedModel);
+    }
+
+    @Test
+    public void execute_validRangesFilteredList_deletesDisplayedPersons() {
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(Collections.singletonList("Meier")));
+        BulkDeleteCommand bulkDeleteCommand = new BulkDeleteCommand(
+                Collections.singletonList(new IndexRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        Arrays.asList(BENSON, DANIEL).forEach(expectedModel::deletePerson);
+        expectedModel.updateFilteredPersonList(new NameContainsKeywordsPredicate(Collections.singletonList("Meier")));
+
+        assertCommandSuccess(bulkDeleteCommand, model,
+                String.format(BulkDeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_rangePastEndOfList_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        BulkDeleteCommand bulkDeleteCommand = new BulkDeleteCommand(Arrays.asList(IndexRange.of(INDEX_FIRST_PERSON),
+                new IndexRange(INDEX_SECOND_PERSON, outOfBoundIndex)));
+
+        assertCommandFailure(bulkDeleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_tagPredicate_deletesMatchingPersonsInAddressBook() {
+        // persons outside the displayed list are deleted too
+        model.updateFilteredPersonList(person -> person.equals(CARL));
+        BulkDeleteCommand bulkDeleteCommand = new BulkDeleteCommand(
+                TagFilterPredicate.hasAnyTag(Collections.singletonList(Tag.of("friends"))));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        Arrays.asList(ALICE, BENSON, DANIEL).forEach(expectedModel::deletePerson);
+        expectedModel.updateFilteredPersonList(person -> person.equals(CARL));
+
+        assertCommandSuccess(bulkDeleteCommand, model,
+                String.format(BulkDeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 3), expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA, GEORGE), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_noMatchingPersons_deletesNothing() {
+        BulkDeleteCommand bulkDeleteCommand = new BulkDeleteCommand(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Zed")));
+        long generation = model.getAddressBookGeneration();
+
+        assertCommandSuccess(bulkDeleteCommand, model,
+                String.format(BulkDeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 0),
+                new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+        assertEquals(generation, model.getAddressBookGeneration());
+    }
+
+    @Test
+    public void execute_manyPersons_singleChangeToAddressBook() throws Exception {
+        long generation = model.getAddressBookGeneration();
+        new BulkDeleteCommand(Collections.singletonList(new IndexRange(INDEX_FIRST_PERSON, Index.fromOneBased(5))))
+                .execute(model);
+        assertEquals(generation + 1, model.getAddressBookGeneration());
+        assertEquals(Arrays.asList(FIONA, GEORGE), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void equals() {
+        List<IndexRange> firstRanges =
+                Collections.singletonList(new IndexRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON));
+        List<IndexRange> secondRanges = Collections.singletonList(IndexRange.of(INDEX_SECOND_PERSON));
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Collections.singletonList("Meier"));
+        BulkDeleteCommand firstRangesCommand = new BulkDeleteCommand(firstRanges);
+        BulkDeleteCommand predicateCommand = new BulkDeleteCommand(predicate);
+
+        // same object -> returns true
+        assertTrue(firstRangesCommand.equals(firstRangesCommand));
+
+        // same values -> returns true
+        assertTrue(firstRangesCommand.equals(new BulkDeleteCommand(
+                Collections.singletonList(new IndexRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON)))));
+        assertTrue(predicateCommand.equals(new BulkDeleteCommand(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Meier")))));
+
+        // different types -> returns false
+        assertFalse(firstRangesCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstRangesCommand.equals(null));
+
+        // different ranges -> returns false
+        assertFalse(firstRangesCommand.equals(new BulkDeleteCommand(secondRanges)));
+
+        // ranges and predicate -> returns false
+        assertFalse(firstRangesCommand.equals(predicateCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<IndexRange> ranges = Collections.singletonList(IndexRange.of(INDEX_FIRST_PERSON));
+        BulkDeleteCommand bulkDeleteCommand = new BulkDeleteCommand(ranges);
+        String expected = BulkDeleteCommand.class.getCanonicalName() + "{targetRanges=" + ranges
+                + ", predicate=null}";
+        assertEquals(expected, bulkDeleteCommand.toString());
+    }
+}
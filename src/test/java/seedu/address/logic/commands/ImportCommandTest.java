@@ -0,0 +1,136 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    private static final Path NEW_PERSONS_CSV = Paths.get("data", "newPersons.csv");
+    private static final Path NEW_PERSONS_JSON = Paths.get("data", "newPersons.json");
+    private static final List<Person> NEW_PERSONS = Arrays.asList(HOON, IDA);
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null, NEW_PERSONS));
+    }
+
+    @Test
+    public void constructor_nullPersons_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(NEW_PERSONS_CSV, null));
+    }
+
+    @Test
+    public void execute_newPersons_success() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPersons(NEW_PERSONS);
+
+        assertCommandSuccess(new ImportCommand(NEW_PERSONS_CSV, NEW_PERSONS), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, NEW_PERSONS_CSV), expectedModel);
+    }
+
+    @Test
+    public void execute_personsChangedAfterConstruction_importsOriginalPersons() throws Exception {
+        List<Person> persons = new ArrayList<>(NEW_PERSONS);
+        ImportCommand importCommand = new ImportCommand(NEW_PERSONS_CSV, persons);
+        persons.clear();
+
+        importCommand.execute(model);
+        assertTrue(model.hasPerson(HOON));
+        assertTrue(model.hasPerson(IDA));
+    }
+
+    @Test
+    public void execute_filteredList_showsAllPersons() throws Exception {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        new ImportCommand(NEW_PERSONS_CSV, NEW_PERSONS).execute(model);
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_newPersons_singleChangeToAddressBook() throws Exception {
+        long generation = model.getAddressBookGeneration();
+        new ImportCommand(NEW_PERSONS_CSV, NEW_PERSONS).execute(model);
+        assertEquals(generation + 1, model.getAddressBookGeneration());
+    }
+
+    @Test
+    public void execute_existingPersons_throwsCommandException() {
+        String expectedMessage = String.format(ImportCommand.MESSAGE_DUPLICATE_PERSONS, NEW_PERSONS_CSV,
+                "Alice Pauline, Benson Meier, Carl Kurz, Daniel Meier, Elle Meyer and 2 more");
+        assertCommandFailure(new ImportCommand(NEW_PERSONS_CSV, getTypicalPersons()), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_duplicatePersonsInImport_throwsCommandException() {
+        String expectedMessage = String.format(ImportCommand.MESSAGE_DUPLICATE_PERSONS, NEW_PERSONS_CSV, "Hoon Meier");
+        assertCommandFailure(new ImportCommand(NEW_PERSONS_CSV, Arrays.asList(HOON, IDA, HOON)), model,
+                expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCsvCommand = new ImportCommand(NEW_PERSONS_CSV, NEW_PERSONS);
+        ImportCommand importJsonCommand = new ImportCommand(NEW_PERSONS_JSON, NEW_PERSONS);
+        ImportCommand importHoonCommand = new ImportCommand(NEW_PERSONS_CSV, Arrays.asList(HOON));
+
+        // same object -> returns true
+        assertTrue(importCsvCommand.equals(importCsvCommand));
+
+        // same values -> returns true
+        assertTrue(importCsvCommand.equals(new ImportCommand(NEW_PERSONS_CSV, Arrays.asList(HOON, IDA))));
+
+        // different types -> returns false
+        assertFalse(importCsvCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCsvCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCsvCommand.equals(importJsonCommand));
+
+        // different persons -> returns false
+        assertFalse(importCsvCommand.equals(importHoonCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ImportCommand importCommand = new ImportCommand(NEW_PERSONS_CSV, NEW_PERSONS);
+        String expected = ImportCommand.class.getCanonicalName() + "{filePath=" + NEW_PERSONS_CSV
+                + ", persons=" + NEW_PERSONS + "}";
+        assertEquals(expected, importCommand.toString());
+    }
+}
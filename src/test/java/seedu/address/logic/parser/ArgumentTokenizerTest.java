@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -136,6 +137,24 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesWithSameFirstCharacter() {
+        Prefix ppSlash = new Prefix("pp/");
+        String argsString = "preamble pp/ppSlash value p/pSlash value pp/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, ppSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, ppSlash, "ppSlash value", "");
+    }
+
+    @Test
+    public void getAllValues_modifyReturnedList_throwsUnsupportedOperationException() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("preamble p/pSlash value", pSlash);
+        assertThrows(UnsupportedOperationException.class, () -> argMultimap.getAllValues(pSlash).add("value"));
+        assertThrows(UnsupportedOperationException.class, () -> argMultimap.getAllValues(dashT).add("value"));
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -4,10 +4,21 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.commands.BulkDeleteCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.TagFilterPredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * As we are only doing white-box testing, our test cases do not cover path variations
@@ -29,4 +40,51 @@ public class DeleteCommandParserTest {
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
     }
+
+    @Test
+    public void parse_indexRanges_returnsBulkDeleteCommand() {
+        List<IndexRange> expectedRanges = Arrays.asList(new IndexRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON),
+                IndexRange.of(Index.fromOneBased(7)));
+        assertParseSuccess(parser, " 1-3, 7 ", new BulkDeleteCommand(expectedRanges));
+
+        // two indexes
+        assertParseSuccess(parser, "1,2", new BulkDeleteCommand(Arrays.asList(IndexRange.of(INDEX_FIRST_PERSON),
+                IndexRange.of(INDEX_SECOND_PERSON))));
+    }
+
+    @Test
+    public void parse_nameKeywords_returnsBulkDeleteCommand() {
+        BulkDeleteCommand expectedCommand =
+                new BulkDeleteCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob", "Carl")));
+        assertParseSuccess(parser, " n/Alice  Bob n/Carl", expectedCommand);
+    }
+
+    @Test
+    public void parse_tags_returnsBulkDeleteCommand() {
+        BulkDeleteCommand expectedCommand = new BulkDeleteCommand(
+                TagFilterPredicate.hasAnyTag(Arrays.asList(Tag.of("friends"), Tag.of("stale"))));
+        assertParseSuccess(parser, " t/friends t/stale", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidBulkArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE);
+
+        // invalid ranges
+        assertParseFailure(parser, "3-1", expectedMessage);
+        assertParseFailure(parser, "1-", expectedMessage);
+        assertParseFailure(parser, "1,,2", expectedMessage);
+        assertParseFailure(parser, "0-2", expectedMessage);
+
+        // no name keywords
+        assertParseFailure(parser, " n/ ", expectedMessage);
+
+        // invalid tag
+        assertParseFailure(parser, " t/stale!", expectedMessage);
+
+        // more than one way of identifying persons
+        assertParseFailure(parser, " n/Alice t/friends", expectedMessage);
+        assertParseFailure(parser, "1 t/friends", expectedMessage);
+        assertParseFailure(parser, "1 n/Alice", expectedMessage);
+    }
 }
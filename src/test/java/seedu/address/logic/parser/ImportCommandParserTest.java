@@ -0,0 +1,80 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.model.person.Person;
+
+public class ImportCommandParserTest {
+
+    private static final Path FILE_PATH = Paths.get("data", "my contacts.csv");
+    private static final List<Person> PERSONS = Arrays.asList(HOON, IDA);
+
+    private ImportCommandParser parser = new ImportCommandParser(filePath -> PERSONS);
+
+    @Test
+    public void constructor_nullPersonFileReader_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommandParser(null));
+    }
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "data/contacts\0.csv",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        ImportCommand expectedImportCommand = new ImportCommand(FILE_PATH, PERSONS);
+        assertParseSuccess(parser, " data/my contacts.csv \n", expectedImportCommand);
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        ImportCommandParser missingFileParser = new ImportCommandParser(filePath -> {
+            throw new NoSuchFileException(filePath.toString());
+        });
+        assertParseFailure(missingFileParser, "data/my contacts.csv",
+                String.format(ImportCommandParser.MESSAGE_FILE_NOT_FOUND, FILE_PATH));
+    }
+
+    @Test
+    public void parse_unreadableFile_throwsParseException() {
+        ImportCommandParser unreadableFileParser = new ImportCommandParser(filePath -> {
+            throw new IOException("Access denied");
+        });
+        assertParseFailure(unreadableFileParser, "data/my contacts.csv",
+                String.format(ImportCommandParser.MESSAGE_FILE_NOT_READ, FILE_PATH, "Access denied"));
+    }
+
+    @Test
+    public void parse_invalidFile_throwsParseException() {
+        ImportCommandParser invalidFileParser = new ImportCommandParser(filePath -> {
+            throw new IllegalValueException("Invalid line 4");
+        });
+        assertParseFailure(invalidFileParser, "data/my contacts.csv",
+                String.format(ImportCommandParser.MESSAGE_INVALID_FILE, FILE_PATH, "Invalid line 4"));
+    }
+
+}
@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
@@ -13,6 +14,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -56,6 +59,24 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexRanges_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexRanges("1,a"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexRanges("1-2-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexRanges("1,"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexRanges("5-4"));
+    }
+
+    @Test
+    public void parseIndexRanges_validInput_success() throws Exception {
+        assertEquals(Arrays.asList(IndexRange.of(INDEX_FIRST_PERSON)), ParserUtil.parseIndexRanges("1"));
+
+        // Whitespace around indexes, and a range of one index
+        assertEquals(Arrays.asList(new IndexRange(INDEX_FIRST_PERSON, Index.fromOneBased(500)),
+                IndexRange.of(Index.fromOneBased(700)), IndexRange.of(Index.fromOneBased(3))),
+                ParserUtil.parseIndexRanges(" 1 - 500 ,700,3-3 "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
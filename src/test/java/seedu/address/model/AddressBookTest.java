@@ -4,20 +4,24 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -54,6 +58,53 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getNameKeywordsPredicate_afterEditAndDelete_matchesCurrentNames() {
+        addressBook.addPerson(ALICE);
+        Predicate<Person> predicate = addressBook.getNameKeywordsPredicate(Arrays.asList("pauline", "bob"));
+        assertTrue(predicate.test(ALICE));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        addressBook.setPerson(ALICE, renamedAlice);
+        assertFalse(predicate.test(ALICE));
+        assertTrue(predicate.test(renamedAlice));
+
+        addressBook.removePerson(renamedAlice);
+        assertFalse(predicate.test(renamedAlice));
+    }
+
+    @Test
+    public void getNameKeywordsPredicate_filteredListDuringAdd_showsAddedPersons() {
+        addressBook.addPerson(ALICE);
+        FilteredList<Person> filteredPersons = new FilteredList<>(addressBook.getPersonList(),
+                addressBook.getNameKeywordsPredicate(Arrays.asList("zed")));
+
+        Person zedAlpha = new PersonBuilder().withName("Zed Alpha").build();
+        addressBook.addPerson(zedAlpha);
+        assertEquals(Arrays.asList(zedAlpha), filteredPersons);
+
+        Person zedBeta = new PersonBuilder().withName("Zed Beta").build();
+        addressBook.addPersons(Arrays.asList(BOB, zedBeta));
+        assertEquals(Arrays.asList(zedAlpha, zedBeta), filteredPersons);
+    }
+
+    @Test
+    public void getNameKeywordsPredicate_failedChanges_matchesUnchangedNames() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BOB);
+        Predicate<Person> predicate = addressBook.getNameKeywordsPredicate(Arrays.asList("pauline", "bob", "zed"));
+
+        Person zed = new PersonBuilder().withName("Zed Alpha").build();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPersons(Arrays.asList(zed, BOB)));
+        Person aliceRenamedToBob = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.setPerson(ALICE, aliceRenamedToBob));
+
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BOB));
+        assertFalse(predicate.test(zed));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -5,18 +5,24 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +94,93 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void hasUnsavedAddressBookChanges_newModel_returnsFalse() {
+        assertFalse(modelManager.hasUnsavedAddressBookChanges());
+        assertFalse(new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), new UserPrefs())
+                .hasUnsavedAddressBookChanges());
+    }
+
+    @Test
+    public void hasUnsavedAddressBookChanges_addressBookModified_returnsTrue() {
+        long initialGeneration = modelManager.getAddressBookGeneration();
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.hasUnsavedAddressBookChanges());
+        assertTrue(modelManager.getAddressBookGeneration() > initialGeneration);
+    }
+
+    @Test
+    public void markAddressBookSaved_currentGeneration_clearsUnsavedChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.markAddressBookSaved(modelManager.getAddressBookGeneration());
+        assertFalse(modelManager.hasUnsavedAddressBookChanges());
+
+        // filtering does not modify the address book
+        modelManager.updateFilteredPersonList(unused -> false);
+        assertFalse(modelManager.hasUnsavedAddressBookChanges());
+    }
+
+    @Test
+    public void markAddressBookSaved_staleGeneration_keepsUnsavedChanges() {
+        modelManager.addPerson(ALICE);
+        long savedGeneration = modelManager.getAddressBookGeneration();
+        modelManager.deletePerson(ALICE);
+        modelManager.markAddressBookSaved(savedGeneration);
+        assertTrue(modelManager.hasUnsavedAddressBookChanges());
+    }
+
+    @Test
+    public void deleteFilteredPerson_filteredList_deletesPersonAtSourceIndex() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.updateFilteredPersonList(person -> !person.equals(ALICE));
+
+        modelManager.deleteFilteredPerson(INDEX_SECOND_PERSON);
+        assertFalse(modelManager.hasPerson(CARL));
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setFilteredPerson_filteredList_replacesPersonAtSourceIndex() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(person -> person.equals(BENSON));
+
+        modelManager.setFilteredPerson(INDEX_FIRST_PERSON, CARL);
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.hasPerson(BENSON));
+    }
+
+    @Test
+    public void setPerson_nameKeywordsFilter_showsRenamedPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(modelManager.getNameKeywordsPredicate(List.of("zed")));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zed Alpha").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of(renamedAlice), modelManager.getFilteredPersonList());
+
+        Person renamedAgainAlice = new PersonBuilder(ALICE).withName("Zed Gamma").build();
+        modelManager.setFilteredPerson(INDEX_FIRST_PERSON, renamedAgainAlice);
+        assertEquals(List.of(renamedAgainAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setAddressBook_nameKeywordsFilter_showsMatchingPersons() {
+        modelManager.updateFilteredPersonList(modelManager.getNameKeywordsPredicate(List.of("pauline")));
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setFilteredPerson_nullEditedPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.setFilteredPerson(INDEX_FIRST_PERSON, null));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
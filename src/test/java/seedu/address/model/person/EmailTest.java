@@ -1,9 +1,15 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.Duration;
+import java.util.Random;
+import java.util.regex.Pattern;
+
 import org.junit.jupiter.api.Test;
 
 public class EmailTest {
@@ -64,6 +70,70 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("peter_jack@very-very-very-long-example.com")); // long domain name
         assertTrue(Email.isValidEmail("if.you.dream.it_you.can.do.it@example.com")); // long local part
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
+        assertTrue(Email.isValidEmail("peterjack@example.c-om")); // hyphen in top level domain
+        assertFalse(Email.isValidEmail("peterjack@example.c-o")); // no two adjacent alphanumerics in top level domain
+    }
+
+    @Test
+    public void isValidEmail_allShortStrings_agreesWithRegex() {
+        // every string of up to 7 characters over an alphabet covering each kind of character the regex treats
+        // differently
+        char[] alphabet = {'a', '0', '.', '-', '+', '@', '_'};
+        Pattern pattern = Pattern.compile(Email.VALIDATION_REGEX);
+        char[] chars = new char[7];
+        for (int length = 0; length <= chars.length; length++) {
+            int[] digits = new int[length];
+            do {
+                for (int i = 0; i < length; i++) {
+                    chars[i] = alphabet[digits[i]];
+                }
+                assertAgreesWithRegex(pattern, new String(chars, 0, length));
+            } while (increment(digits, alphabet.length));
+        }
+    }
+
+    @Test
+    public void isValidEmail_randomStrings_agreesWithRegex() {
+        char[] alphabet = {'a', 'Z', '5', '.', '-', '+', '_', '@', ' ', '\u00e9', '\n', '!'};
+        Pattern pattern = Pattern.compile(Email.VALIDATION_REGEX);
+        Random random = new Random(0);
+        for (int n = 0; n < 100_000; n++) {
+            StringBuilder test = new StringBuilder();
+            int length = random.nextInt(20);
+            for (int i = 0; i < length; i++) {
+                // mostly alphanumeric characters, so that more of the strings are close to valid
+                int limit = random.nextInt(3) > 0 ? 3 : alphabet.length;
+                test.append(alphabet[random.nextInt(limit)]);
+            }
+            assertAgreesWithRegex(pattern, test.toString());
+        }
+    }
+
+    @Test
+    public void isValidEmail_longMalformedDomain_returnsFalseQuickly() {
+        // would take far longer than the timeout if matched with the regex
+        String malformed = "peterjack@" + "a".repeat(1_000_000) + "!";
+        assertTimeout(Duration.ofSeconds(1), () -> assertFalse(Email.isValidEmail(malformed)));
+    }
+
+    private static void assertAgreesWithRegex(Pattern pattern, String test) {
+        assertEquals(pattern.matcher(test).matches(), Email.isValidEmail(test), test);
+    }
+
+    /**
+     * Increments the number written in base {@code base} with the given {@code digits}, least significant first.
+     *
+     * @return false if the number overflowed back to zero.
+     */
+    private static boolean increment(int[] digits, int base) {
+        for (int i = 0; i < digits.length; i++) {
+            digits[i]++;
+            if (digits[i] < base) {
+                return true;
+            }
+            digits[i] = 0;
+        }
+        return false;
     }
 
     @Test
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -74,6 +75,14 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void constructor_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", " ")));
+        assertThrows(IllegalArgumentException.class, () ->
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice Bob")));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
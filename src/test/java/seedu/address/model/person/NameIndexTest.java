@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameIndexTest {
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @Test
+    public void add_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.add(null));
+    }
+
+    @Test
+    public void getNamesContainingAnyWord_mixedCaseWords_returnsMatchingNames() {
+        nameIndex.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+
+        assertEquals(new HashSet<>(Arrays.asList(BENSON.getName(), DANIEL.getName())),
+                nameIndex.getNamesContainingAnyWord(Collections.singletonList("mEIER")));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE.getName(), BENSON.getName())),
+                nameIndex.getNamesContainingAnyWord(Arrays.asList("alice", "benson")));
+
+        // partial words do not match
+        assertTrue(nameIndex.getNamesContainingAnyWord(Collections.singletonList("Mei")).isEmpty());
+    }
+
+    @Test
+    public void remove_nameWithSharedWord_otherNamesStillIndexed() {
+        nameIndex.setPersons(Arrays.asList(BENSON, DANIEL));
+        nameIndex.remove(BENSON.getName());
+
+        assertEquals(Collections.singleton(DANIEL.getName()),
+                nameIndex.getNamesContainingAnyWord(Collections.singletonList("Meier")));
+        assertTrue(nameIndex.getNamesContainingAnyWord(Collections.singletonList("Benson")).isEmpty());
+    }
+
+    @Test
+    public void containsAnyWordPredicate_indexChanged_reflectsChange() {
+        nameIndex.setPersons(Collections.singletonList(BENSON));
+        Predicate<Person> predicate = nameIndex.containsAnyWordPredicate(Collections.singletonList("meier"));
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(HOON));
+
+        nameIndex.add(HOON.getName());
+        assertTrue(predicate.test(HOON));
+    }
+
+    @Test
+    public void containsAnyWordPredicate_agreesWithNameContainsKeywordsPredicate() {
+        List<Person> persons = Arrays.asList(ALICE, BENSON, DANIEL,
+                new PersonBuilder().withName("Alice  Meier").build());
+        nameIndex.setPersons(persons);
+        List<List<String>> keywordLists = Arrays.asList(Collections.emptyList(), Arrays.asList("alice"),
+                Arrays.asList("MEIER", "Pauline"), Arrays.asList("Carl", "Kurz"));
+
+        for (List<String> keywords : keywordLists) {
+            Predicate<Person> indexed = nameIndex.containsAnyWordPredicate(keywords);
+            NameContainsKeywordsPredicate scanning = new NameContainsKeywordsPredicate(keywords);
+            for (Person person : persons) {
+                assertEquals(scanning.test(person), indexed.test(person), keywords + " " + person.getName());
+            }
+        }
+    }
+}
@@ -51,6 +51,20 @@ public class PersonTest {
         assertFalse(BOB.isSamePerson(editedBob));
     }
 
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+
+        // cached hash code is unchanged
+        assertEquals(ALICE.hashCode(), ALICE.hashCode());
+
+        // persons differing only in tags -> different hash codes in this case, and not equal
+        Person retaggedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertFalse(ALICE.hashCode() == retaggedAlice.hashCode());
+        assertFalse(ALICE.equals(retaggedAlice));
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
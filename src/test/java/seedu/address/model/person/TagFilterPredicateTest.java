@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagFilterPredicateTest {
+
+    private static final List<Tag> FRIENDS_AND_FAMILY = Arrays.asList(new Tag("friends"), new Tag("family"));
+
+    @Test
+    public void equals() {
+        TagFilterPredicate hasAllPredicate = TagFilterPredicate.hasAllTags(FRIENDS_AND_FAMILY);
+
+        // same object -> returns true
+        assertTrue(hasAllPredicate.equals(hasAllPredicate));
+
+        // same values -> returns true
+        assertTrue(hasAllPredicate.equals(TagFilterPredicate.hasAllTags(FRIENDS_AND_FAMILY)));
+
+        // different types -> returns false
+        assertFalse(hasAllPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(hasAllPredicate.equals(null));
+
+        // different tags -> returns false
+        List<Tag> family = Collections.singletonList(new Tag("family"));
+        assertFalse(hasAllPredicate.equals(TagFilterPredicate.hasAllTags(family)));
+
+        // any instead of all -> returns false
+        assertFalse(hasAllPredicate.equals(TagFilterPredicate.hasAnyTag(FRIENDS_AND_FAMILY)));
+    }
+
+    @Test
+    public void test_hasAllTags() {
+        TagFilterPredicate predicate = TagFilterPredicate.hasAllTags(FRIENDS_AND_FAMILY);
+
+        assertTrue(predicate.test(new PersonBuilder().withTags("family", "friends").build()));
+        assertTrue(predicate.test(new PersonBuilder().withTags("family", "friends", "colleagues").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags().build()));
+
+        // no tags required
+        assertTrue(TagFilterPredicate.hasAllTags(Collections.emptyList()).test(new PersonBuilder().withTags().build()));
+    }
+
+    @Test
+    public void test_hasAnyTag() {
+        TagFilterPredicate predicate = TagFilterPredicate.hasAnyTag(FRIENDS_AND_FAMILY);
+
+        assertTrue(predicate.test(new PersonBuilder().withTags("friends").build()));
+        assertTrue(predicate.test(new PersonBuilder().withTags("colleagues", "family").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("colleagues").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags().build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        TagFilterPredicate predicate = TagFilterPredicate.hasAnyTag(Collections.singletonList(new Tag("friends")));
+
+        String expected = TagFilterPredicate.class.getCanonicalName() + "{tags=[[friends]], isAllRequired=false}";
+        assertEquals(expected, predicate.toString());
+    }
+}
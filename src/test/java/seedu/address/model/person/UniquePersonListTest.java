@@ -8,13 +8,16 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -47,6 +50,29 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedWithDifferentIdentity_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void contains_afterSetPersons_reflectsReplacementList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -58,6 +84,29 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addsInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(BOB, CARL));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_reportsDuplicatesAndKeepsOwnList() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+
+        String expectedMessage = new DuplicatePersonException(Arrays.asList(editedAlice, editedBob)).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, ()
+            -> uniquePersonList.addAll(Arrays.asList(editedAlice, BOB, CARL, editedBob)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -109,6 +158,30 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPersonAtIndex_editedPersonHasDifferentIdentity_returnsReplacedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        assertEquals(CARL, uniquePersonList.setPerson(1, BOB));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void setPersonAtIndex_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(0, BOB));
+    }
+
+    @Test
+    public void setPersonAtIndex_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> uniquePersonList.setPerson(0, ALICE));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +200,46 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void removeAtIndex_existingPerson_returnsRemovedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(ALICE, uniquePersonList.remove(0));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void removeAtIndex_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> uniquePersonList.remove(0));
+    }
+
+    @Test
+    public void removeAll_matchingPersons_removesInSingleChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        List<Integer> changeCount = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount.add(1));
+
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.removeAll(person -> !person.equals(BOB)));
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertEquals(1, changeCount.size());
+    }
+
+    @Test
+    public void removeAll_noMatchingPersons_listUnchanged() {
+        uniquePersonList.add(ALICE);
+        List<Integer> changeCount = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount.add(1));
+
+        assertEquals(Collections.emptyList(), uniquePersonList.removeAll(BOB::equals));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(0, changeCount.size());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +275,21 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsCollidingPersonsAndKeepsOwnList() {
+        uniquePersonList.add(CARL);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice, BOB);
+        String expectedMessage = new DuplicatePersonException(Arrays.asList(editedAlice, BOB)).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, ()
+            -> uniquePersonList.setPersons(listWithDuplicatePersons));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(CARL);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
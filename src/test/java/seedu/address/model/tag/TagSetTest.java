@@ -0,0 +1,115 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void copyOf_nullTag_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.copyOf(Arrays.asList(new Tag("friends"), null)));
+    }
+
+    @Test
+    public void copyOf_duplicateTags_sortedDistinctCanonicalTags() {
+        TagSet tagSet = TagSet.copyOf(Arrays.asList(new Tag("zoo"), new Tag("friends"), new Tag("zoo")));
+
+        List<Tag> tags = new ArrayList<>(tagSet);
+        assertEquals(Arrays.asList(new Tag("friends"), new Tag("zoo")), tags);
+        assertSame(Tag.of("friends"), tags.get(0));
+    }
+
+    @Test
+    public void equalsAndHashCode_sameTagsAsHashSet_equal() {
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("colleagues")));
+        TagSet tagSet = TagSet.copyOf(hashSet);
+
+        assertEquals(hashSet, tagSet);
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+        assertTrue(tagSet.contains(new Tag("colleagues")));
+        assertFalse(tagSet.contains(new Tag("family")));
+        assertFalse(tagSet.contains("colleagues"));
+    }
+
+    @Test
+    public void containsAllOfAndAnyOf_manyTags_comparedAcrossWords() {
+        // more than 64 tags, so that the bitsets span more than one word
+        List<Tag> manyTags = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            manyTags.add(new Tag("many" + i));
+        }
+        TagSet all = TagSet.copyOf(manyTags);
+        TagSet last = TagSet.copyOf(manyTags.subList(150, 200));
+        TagSet first = TagSet.copyOf(manyTags.subList(0, 100));
+
+        assertTrue(all.containsAllOf(last));
+        assertTrue(all.containsAllOf(TagSet.copyOf(Collections.emptySet())));
+        assertFalse(first.containsAllOf(last));
+        assertFalse(last.containsAllOf(all));
+
+        assertTrue(all.containsAnyOf(last));
+        assertFalse(first.containsAnyOf(last));
+        assertFalse(last.containsAnyOf(TagSet.copyOf(Collections.emptySet())));
+
+        assertTrue(all.contains(new Tag("many199")));
+        assertFalse(first.contains(Tag.of("many199")));
+        assertEquals(last, TagSet.copyOf(new ArrayList<>(last)));
+        assertFalse(last.equals(first));
+    }
+
+    @Test
+    public void copyOf_manyDistinctTags_bitsetStorageBounded() {
+        // one distinct tag per person, as when importing contacts tagged with their own ids
+        List<Tag> distinctTags = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            distinctTags.add(Tag.of("distinct" + i));
+        }
+        Tag first = distinctTags.get(0);
+        Tag middle = distinctTags.get(50_000);
+        Tag last = distinctTags.get(99_999);
+
+        TagSet lastOnly = TagSet.copyOf(Collections.singleton(last));
+        TagSet firstAndLast = TagSet.copyOf(Arrays.asList(first, last));
+        TagSet middleAndLast = TagSet.copyOf(Arrays.asList(middle, last));
+        assertEquals(1, lastOnly.getBitsetWordCount());
+        assertEquals(2, firstAndLast.getBitsetWordCount());
+
+        assertTrue(firstAndLast.containsAllOf(lastOnly));
+        assertFalse(lastOnly.containsAllOf(firstAndLast));
+        assertFalse(firstAndLast.containsAllOf(middleAndLast));
+        assertTrue(middleAndLast.containsAnyOf(firstAndLast));
+        assertFalse(TagSet.copyOf(Collections.singleton(first)).containsAnyOf(middleAndLast));
+        assertTrue(firstAndLast.contains(last));
+        assertFalse(firstAndLast.contains(middle));
+        assertEquals(firstAndLast, TagSet.copyOf(Arrays.asList(new Tag(last.tagName), new Tag(first.tagName))));
+        assertFalse(firstAndLast.equals(middleAndLast));
+    }
+
+    @Test
+    public void copyOf_emptyCollection_sharedEmptySet() {
+        assertSame(TagSet.copyOf(Collections.emptySet()), TagSet.copyOf(new ArrayList<>()));
+        assertTrue(TagSet.copyOf(Collections.emptySet()).isEmpty());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.copyOf(Collections.singleton(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(new Tag("family")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(new Tag("family")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+    }
+}
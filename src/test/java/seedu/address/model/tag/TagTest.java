@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,19 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_sameTagName_returnsSameInstance() {
+        Tag tag = Tag.of("friends");
+        assertSame(tag, Tag.of("friends"));
+        assertSame(tag, Tag.intern(new Tag("friends")));
+        assertNotSame(tag, Tag.of("colleagues"));
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("owes money"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -0,0 +1,41 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class SampleDataGeneratorTest {
+
+    @Test
+    public void generatePersons_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, SampleDataGenerator.MESSAGE_NEGATIVE_COUNT, () ->
+                new SampleDataGenerator().generatePersons(-1));
+    }
+
+    @Test
+    public void generatePersons_sameSeed_samePersons() {
+        assertEquals(generate(1, 100), generate(1, 100));
+        assertNotEquals(generate(1, 100), generate(2, 100));
+    }
+
+    @Test
+    public void addPersonsTo_manyPersons_allDistinct() {
+        AddressBook addressBook = new AddressBook();
+
+        // adding a person with the same name as an earlier one would throw DuplicatePersonException
+        new SampleDataGenerator().addPersonsTo(addressBook, 5000);
+        assertEquals(5000, addressBook.getPersonList().size());
+    }
+
+    private List<Person> generate(long seed, int count) {
+        return new SampleDataGenerator(seed).generatePersons(count).collect(Collectors.toList());
+    }
+}
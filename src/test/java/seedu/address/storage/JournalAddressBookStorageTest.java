@@ -0,0 +1,233 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil.Durability;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("NonExistentFile.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notJsonFormat_exceptionThrown() {
+        Path filePath = TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_snapshotWrittenByJsonStorage_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        journalStorage.saveAddressBook(original, filePath);
+        assertEquals(original, new AddressBook(readWithNewStorage(filePath)));
+
+        // Add, edit and delete, each saved as journal records
+        String snapshot = readSnapshot(filePath);
+        original.addPerson(HOON);
+        journalStorage.saveAddressBook(original, filePath);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build());
+        journalStorage.saveAddressBook(original, filePath);
+        original.removePerson(ALICE);
+        journalStorage.saveAddressBook(original, filePath);
+        assertEquals(snapshot, readSnapshot(filePath));
+        assertEquals(4, readJournal(filePath).size());
+        assertEquals(original, new AddressBook(readWithNewStorage(filePath)));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        journalStorage.saveAddressBook(original); // file path not specified
+        assertEquals(original, new AddressBook(journalStorage.readAddressBook().get())); // file path not specified
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_journalNotAppended() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        journalStorage.saveAddressBook(original);
+        journalStorage.saveAddressBook(original);
+        assertEquals(1, readJournal(filePath).size());
+    }
+
+    @Test
+    public void saveAddressBook_compactionThresholdExceeded_journalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath, 1, false, Durability.NONE);
+        AddressBook original = getTypicalAddressBook();
+        journalStorage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        journalStorage.saveAddressBook(original);
+        assertEquals(2, readJournal(filePath).size());
+
+        original.addPerson(IDA);
+        journalStorage.saveAddressBook(original);
+        assertEquals(1, readJournal(filePath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_staleJournal_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        journalStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journalStorage.saveAddressBook(original);
+
+        // snapshot replaced without its journal, as by a crash during compaction
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(original, new AddressBook(readWithNewStorage(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_tornLastRecord_recordIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        journalStorage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        expected.addPerson(HOON);
+        journalStorage.saveAddressBook(expected);
+
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath),
+                "{\"operation\":\"add\",\"per".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        JournalAddressBookStorage reloadedStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(expected, new AddressBook(reloadedStorage.readAddressBook().get()));
+
+        // the next save replaces the torn journal instead of appending to it
+        expected.addPerson(IDA);
+        reloadedStorage.saveAddressBook(expected);
+        assertEquals(expected, new AddressBook(readWithNewStorage(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_journalWithDuplicatePersons_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Person duplicateAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        String record = JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.add(duplicateAlice)) + "\n";
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath),
+                record.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () -> readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void mergeJournal_journalWithRecords_journalMergedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        journalStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journalStorage.saveAddressBook(original);
+
+        journalStorage.mergeJournal();
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // the next save starts a new journal
+        original.addPerson(IDA);
+        journalStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(readWithNewStorage(filePath)));
+    }
+
+    @Test
+    public void mergeJournal_noJournal_snapshotUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String snapshot = readSnapshot(filePath);
+
+        new JournalAddressBookStorage(filePath).mergeJournal();
+        assertEquals(snapshot, readSnapshot(filePath));
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void mergeJournal_journalWithDuplicatePersons_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Person duplicateAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        String record = JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.add(duplicateAlice)) + "\n";
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath),
+                record.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).mergeJournal());
+        assertEquals(2, readJournal(filePath).size());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.json");
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(filePath)
+                .saveAddressBook(null, filePath));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.json");
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(filePath)
+                .saveAddressBook(new AddressBook(), null));
+    }
+
+    private ReadOnlyAddressBook readWithNewStorage(Path filePath) throws DataLoadingException {
+        return new JournalAddressBookStorage(filePath).readAddressBook().get();
+    }
+
+    private String readSnapshot(Path filePath) throws Exception {
+        return new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+    }
+
+    private List<String> readJournal(Path filePath) throws Exception {
+        return Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath), StandardCharsets.UTF_8);
+    }
+}
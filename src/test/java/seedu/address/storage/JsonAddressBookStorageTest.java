@@ -16,8 +16,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.Durability;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SampleDataGenerator;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +90,36 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_prettyPrinted_matchesSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath, true, Durability.NONE).saveAddressBook(original);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_notPrettyPrinted_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false, Durability.FSYNC);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void savePersons_generatedPersons_readBackAsAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook expected = new AddressBook();
+        new SampleDataGenerator(1).addPersonsTo(expected, 100);
+
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.savePersons(new SampleDataGenerator(1).generatePersons(100)::iterator, filePath);
+        assertEquals(expected, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -3,6 +3,8 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -44,4 +46,27 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelTypeFromStream_typicalPersonsFile_success() throws Exception {
+        try (InputStream source = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+            AddressBook addressBookFromFile = JsonSerializableAddressBook.toModelType(source);
+            assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+        }
+    }
+
+    @Test
+    public void toModelTypeFromStream_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (InputStream source = Files.newInputStream(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.toModelType(source));
+        }
+    }
+
+    @Test
+    public void toModelTypeFromStream_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (InputStream source = Files.newInputStream(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, ()
+                -> JsonSerializableAddressBook.toModelType(source));
+        }
+    }
+
 }
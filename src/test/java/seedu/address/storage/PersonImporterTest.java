@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.SampleDataGenerator;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonImporterTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "PersonImporterTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readPersons_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonImporter.readPersons(null));
+    }
+
+    @Test
+    public void readPersons_missingFile_throwsNoSuchFileException() {
+        assertThrows(NoSuchFileException.class, () ->
+                PersonImporter.readPersons(TEST_DATA_FOLDER.resolve("NonExistentFile.csv")));
+    }
+
+    @Test
+    public void readPersons_unsupportedFileType_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, PersonImporter.MESSAGE_UNSUPPORTED_FILE_TYPE, () ->
+                PersonImporter.readPersons(TEST_DATA_FOLDER.resolve("persons.txt")));
+    }
+
+    @Test
+    public void readPersons_csvFile_success() throws Exception {
+        // columns in a different order, quoted fields, surrounding whitespace and a blank line
+        assertEquals(getTypicalPersons(), PersonImporter.readPersons(TEST_DATA_FOLDER.resolve("typicalPersons.csv")));
+
+        // no tags column
+        assertEquals(Arrays.asList(HOON, IDA), PersonImporter.readPersons(TEST_DATA_FOLDER.resolve("newPersons.csv")));
+    }
+
+    @Test
+    public void readPersons_jsonFile_success() throws Exception {
+        assertEquals(Arrays.asList(HOON, IDA), PersonImporter.readPersons(TEST_DATA_FOLDER.resolve("newPersons.json")));
+    }
+
+    @Test
+    public void readPersons_csvWithEscapedQuotesAndByteOrderMark_success() throws Exception {
+        Path filePath = testFolder.resolve("persons.csv");
+        Files.write(filePath, Arrays.asList("\uFEFFname,phone,email,address",
+                "Hoon Meier,8482424,stefan@example.com,\"Blk 30, \"\"The Ridge\"\"\""), StandardCharsets.UTF_8);
+        Person expectedPerson = new PersonBuilder(HOON).withAddress("Blk 30, \"The Ridge\"").build();
+        assertEquals(Collections.singletonList(expectedPerson), PersonImporter.readPersons(filePath));
+    }
+
+    @Test
+    public void readPersons_headerOnly_returnsEmptyList() throws Exception {
+        Path filePath = testFolder.resolve("persons.csv");
+        Files.write(filePath, Collections.singletonList("name,phone,email,address,tags"), StandardCharsets.UTF_8);
+        assertEquals(Collections.emptyList(), PersonImporter.readPersons(filePath));
+    }
+
+    @Test
+    public void readPersons_emptyCsvFile_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("persons.csv");
+        Files.write(filePath, new byte[0]);
+        assertThrows(IllegalValueException.class, PersonImporter.MESSAGE_MISSING_HEADER, () ->
+                PersonImporter.readPersons(filePath));
+    }
+
+    @Test
+    public void readPersons_invalidCsvRecord_throwsIllegalValueException() {
+        String expectedMessage = String.format(PersonImporter.MESSAGE_INVALID_RECORD, "line 4",
+                Phone.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                PersonImporter.readPersons(TEST_DATA_FOLDER.resolve("invalidPhone.csv")));
+    }
+
+    @Test
+    public void readPersons_invalidJsonRecord_throwsIllegalValueException() {
+        String expectedMessage = String.format(PersonImporter.MESSAGE_INVALID_RECORD, "person 2",
+                String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                PersonImporter.readPersons(TEST_DATA_FOLDER.resolve("invalidPerson.json")));
+    }
+
+    @Test
+    public void readPersons_malformedCsv_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, String.format(PersonImporter.MESSAGE_MISSING_COLUMN, "email"), () ->
+                PersonImporter.readPersons(TEST_DATA_FOLDER.resolve("missingEmailColumn.csv")));
+        assertThrows(IllegalValueException.class, String.format(PersonImporter.MESSAGE_WRONG_FIELD_COUNT, 2, 5, 4), ()
+            -> PersonImporter.readPersons(TEST_DATA_FOLDER.resolve("wrongFieldCount.csv")));
+        assertThrows(IllegalValueException.class, String.format(PersonImporter.MESSAGE_UNTERMINATED_QUOTE, 2), () ->
+                PersonImporter.readPersons(TEST_DATA_FOLDER.resolve("unterminatedQuote.csv")));
+    }
+
+    @Test
+    public void readPersons_malformedCsvHeader_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("persons.csv");
+        Files.write(filePath, Collections.singletonList("name,phone,email,address,birthday"), StandardCharsets.UTF_8);
+        assertThrows(IllegalValueException.class, String.format(PersonImporter.MESSAGE_UNKNOWN_COLUMN, "birthday"), ()
+            -> PersonImporter.readPersons(filePath));
+
+        Files.write(filePath, Collections.singletonList("name,phone,email,address,Phone"), StandardCharsets.UTF_8);
+        assertThrows(IllegalValueException.class, String.format(PersonImporter.MESSAGE_DUPLICATE_COLUMN, "Phone"), () ->
+                PersonImporter.readPersons(filePath));
+    }
+
+    @Test
+    public void readPersons_manyPersons_orderPreserved() throws Exception {
+        List<Person> persons = new SampleDataGenerator().generatePersons(5000).collect(Collectors.toList());
+        Path filePath = testFolder.resolve("persons.json");
+        new JsonAddressBookStorage(filePath).savePersons(persons, filePath);
+        assertEquals(persons, PersonImporter.readPersons(filePath));
+    }
+}
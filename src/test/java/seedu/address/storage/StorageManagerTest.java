@@ -2,9 +2,22 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,4 +78,120 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void readPersons_csvFile_success() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link PersonImporter} class.
+         * More extensive testing of reading persons is done in {@link PersonImporterTest} class.
+         */
+        Path filePath = Paths.get("src", "test", "data", "PersonImporterTest", "newPersons.csv");
+        assertEquals(Arrays.asList(HOON, IDA), storageManager.readPersons(filePath));
+    }
+
+    @Test
+    public void addressBookReadSave_asyncSave_savedAfterFlush() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        StorageManager asyncStorageManager = new StorageManager(addressBookStorage, userPrefsStorage, true);
+
+        AddressBook original = getTypicalAddressBook();
+        asyncStorageManager.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+
+        // changes made after the save was requested are not part of that save
+        original.removePerson(ALICE);
+        asyncStorageManager.flushAddressBookSaves();
+        assertEquals(expected, new AddressBook(asyncStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_asyncSavesWhileWriting_coalesced() throws Exception {
+        BlockingAddressBookStorage addressBookStorage = new BlockingAddressBookStorage(getTempFilePath("ab"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        StorageManager asyncStorageManager = new StorageManager(addressBookStorage, userPrefsStorage, true);
+
+        AddressBook addressBook = new AddressBook();
+        asyncStorageManager.saveAddressBook(addressBook);
+        addressBookStorage.writeStarted.await();
+        addressBook.addPerson(ALICE);
+        asyncStorageManager.saveAddressBook(addressBook);
+        addressBook.addPerson(BENSON);
+        asyncStorageManager.saveAddressBook(addressBook);
+        addressBookStorage.releaseWrite.countDown();
+
+        asyncStorageManager.flushAddressBookSaves();
+        assertEquals(2, addressBookStorage.saveCount.get());
+        assertEquals(addressBook, new AddressBook(asyncStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_asyncSaveFails_errorHandlerNotified() throws Exception {
+        IOException dummyIoException = new IOException("dummy IO exception");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw dummyIoException;
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        StorageManager asyncStorageManager = new StorageManager(addressBookStorage, userPrefsStorage, true);
+        List<IOException> errors = new CopyOnWriteArrayList<>();
+        asyncStorageManager.setAddressBookSaveErrorHandler(errors::add);
+
+        asyncStorageManager.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, dummyIoException.getMessage(), ()
+            -> asyncStorageManager.flushAddressBookSaves());
+        assertEquals(Collections.singletonList(dummyIoException), errors);
+    }
+
+    @Test
+    public void flushAddressBookSaves_failedSaveFollowedBySuccessfulSave_noErrorThrown() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saveCount.incrementAndGet() == 1) {
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        StorageManager asyncStorageManager = new StorageManager(addressBookStorage, userPrefsStorage, true);
+
+        asyncStorageManager.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, () -> asyncStorageManager.flushAddressBookSaves());
+
+        // the last save succeeded, so the earlier failure is no longer reported
+        asyncStorageManager.saveAddressBook(getTypicalAddressBook());
+        asyncStorageManager.flushAddressBookSaves();
+        assertEquals(getTypicalAddressBook(), new AddressBook(asyncStorageManager.readAddressBook().get()));
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} whose first save blocks until it is released, and which counts its saves.
+     */
+    private static class BlockingAddressBookStorage extends JsonAddressBookStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseWrite = new CountDownLatch(1);
+        private final AtomicInteger saveCount = new AtomicInteger();
+
+        BlockingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                releaseWrite.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            saveCount.incrementAndGet();
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
 }
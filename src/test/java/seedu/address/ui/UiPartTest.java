@@ -2,10 +2,14 @@ package seedu.address.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -57,6 +61,27 @@ public class UiPartTest {
         assertEquals(VALID_FILE_ROOT, new TestUiPart<TestFxmlObject>(validFileUrl, root).getRoot());
     }
 
+    @Test
+    public void constructor_sameFileUrlTwice_loadsSeparateRoots() {
+        URL validFileUrl = getTestFileUrl(VALID_FILE_PATH);
+        TestFxmlObject firstRoot = new TestUiPart<TestFxmlObject>(validFileUrl).getRoot();
+        TestFxmlObject secondRoot = new TestUiPart<TestFxmlObject>(validFileUrl).getRoot();
+        assertEquals(firstRoot, secondRoot);
+        assertNotSame(firstRoot, secondRoot);
+    }
+
+    @Test
+    public void constructor_fileChangedAfterLoading_loadsCachedFile() throws Exception {
+        Path copiedFile = testFolder.resolve("copiedValidFile.fxml");
+        Files.copy(Paths.get(getTestFileUrl(VALID_FILE_PATH).toURI()), copiedFile);
+        URL copiedFileUrl = copiedFile.toUri().toURL();
+        new TestUiPart<TestFxmlObject>(copiedFileUrl);
+
+        Files.copy(Paths.get(getTestFileUrl(INVALID_FILE_PATH).toURI()), copiedFile,
+                StandardCopyOption.REPLACE_EXISTING);
+        assertEquals(VALID_FILE_ROOT, new TestUiPart<TestFxmlObject>(copiedFileUrl).getRoot());
+    }
+
     @Test
     public void constructor_nullFileName_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new TestUiPart<Object>((String) null));